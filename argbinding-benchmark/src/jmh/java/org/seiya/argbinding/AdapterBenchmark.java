@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchAdapterActivity;
+import org.seiya.argbinding.benchmark.BenchAdapterActivityArgBuilder;
+import org.seiya.argbinding.benchmark.BenchSerializableActivity;
+import org.seiya.argbinding.benchmark.BenchSerializableActivityArgBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the round trip of Date, UUID and BigDecimal put by the built-in adapters with the same values
+ * put as Serializable: build, marshal, unmarshal and bind.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AdapterBenchmark {
+
+    private BenchAdapterActivity adapterActivity;
+    private BenchSerializableActivity serializableActivity;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        adapterActivity = new BenchAdapterActivity();
+        serializableActivity = new BenchSerializableActivity();
+    }
+
+    static Bundle marshalAndUnmarshal(Bundle extras) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(extras);
+            byte[] bytes = parcel.marshall();
+            parcel.unmarshall(bytes, 0, bytes.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    @Benchmark
+    public BenchAdapterActivity roundTripAdapter() {
+        Bundle extras = BenchAdapterActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setDate(BenchArgs.DATE)
+                .setUuid(BenchArgs.UUID_VALUE)
+                .setPrice(BenchArgs.PRICE)
+                .build()
+                .getExtras();
+        adapterActivity.setIntent(new Intent().putExtras(marshalAndUnmarshal(extras)));
+        ArgBinding.get().bind(adapterActivity);
+        return adapterActivity;
+    }
+
+    @Benchmark
+    public BenchSerializableActivity roundTripSerializable() {
+        Bundle extras = BenchSerializableActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setDate(BenchArgs.DATE)
+                .setUuid(BenchArgs.UUID_VALUE)
+                .setPrice(BenchArgs.PRICE)
+                .build()
+                .getExtras();
+        serializableActivity.setIntent(new Intent().putExtras(marshalAndUnmarshal(extras)));
+        ArgBinding.get().bind(serializableActivity);
+        return serializableActivity;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import org.seiya.argbinding.benchmark.BenchActivity;
+import org.seiya.argbinding.benchmark.BenchAdapterActivity;
+import org.seiya.argbinding.benchmark.BenchAdapterActivity$$ArgBinder;
+import org.seiya.argbinding.benchmark.BenchAdapterActivityArgBuilder;
+import org.seiya.argbinding.benchmark.BenchActivity$$ArgBinder;
+import org.seiya.argbinding.benchmark.BenchActivityArgBuilder;
+import org.seiya.argbinding.benchmark.BenchFragment;
+import org.seiya.argbinding.benchmark.BenchFragmentArgBuilder;
+import org.seiya.argbinding.benchmark.BenchWideActivityArgBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Check the allocated bytes per call of the bind and build hot paths after warm-up, it exits with 1 if
+ * any of them exceeds its budget, so a change of the generated code which allocates more fails the build.
+ * <p>
+ * The budgets of the builders are measured on 64-bit HotSpot with compressed oops and the JVM stand-ins
+ * of android, update them when the allocation is reduced or intended to grow.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class AllocationCheck {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Keep the results reachable, so the allocations can't be eliminated by escape analysis.
+     */
+    private static volatile Object sink;
+
+    private AllocationCheck() {
+    }
+
+    private interface Call {
+        Object call();
+    }
+
+    public static void main(String[] args) {
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemorySupported()) {
+            System.out.println("Thread allocated memory is not supported, skip the allocation check.");
+            return;
+        }
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        ArgBinding.get().setDebug(false);
+
+        final BenchFragment fragment = BenchFragmentArgBuilder.newBuilder()
+                .setAgeBase(30)
+                .setAge(18)
+                .setAgeOther(19)
+                .setName("name")
+                .setP(BenchArgs.USER)
+                .setMS1(BenchArgs.SERIALIZABLE_USER)
+                .setAgeArray(BenchArgs.AGE_ARRAY)
+                .setNameArray(BenchArgs.NAME_ARRAY)
+                .setNameList(BenchArgs.NAME_LIST)
+                .setPList(BenchArgs.USER_LIST)
+                .build();
+        final BenchActivity activity = new BenchActivity();
+        final Bundle activityArgs = BenchArgs.activityBuilder().build().getExtras();
+        final ArgBinder<BenchActivity> binder = new BenchActivity$$ArgBinder<>();
+
+        List<String> failures = new ArrayList<>();
+        // the typed Parcelable array is the only one copied when binding, it's absent from the fragment args
+        check(failures, "ArgBinding.bind(Fragment)", 0, new Call() {
+            @Override
+            public Object call() {
+                ArgBinding.get().bind(fragment);
+                return fragment;
+            }
+        });
+        // the section names are computed once, tracing doesn't allocate per call
+        ArgBinding.get().setTracer(new ArgTracer() {
+            @Override
+            public void beginSection(String sectionName) {
+            }
+
+            @Override
+            public void endSection() {
+            }
+        });
+        check(failures, "ArgBinding.bind(Fragment) traced", 0, new Call() {
+            @Override
+            public Object call() {
+                ArgBinding.get().bind(fragment);
+                return fragment;
+            }
+        });
+        ArgBinding.get().setTracer(null);
+        // the copy of the typed Parcelable array pArray
+        check(failures, "ArgBinder.bindArgs", 24, new Call() {
+            @Override
+            public Object call() {
+                binder.bindArgs(activity, activityArgs, true);
+                return activity;
+            }
+        });
+        check(failures, "ArgBinder.checkRequiredArg", 0, new Call() {
+            @Override
+            public Object call() {
+                binder.checkRequiredArg(activityArgs);
+                return activityArgs;
+            }
+        });
+
+        // the table mode binds the same args through the generated index switches
+        final org.seiya.argbinding.benchmark.table.BenchFragment tableFragment =
+                new org.seiya.argbinding.benchmark.table.BenchFragment();
+        tableFragment.setArguments(fragment.getArguments());
+        final org.seiya.argbinding.benchmark.table.BenchActivity tableActivity =
+                new org.seiya.argbinding.benchmark.table.BenchActivity();
+        final ArgBinder<org.seiya.argbinding.benchmark.table.BenchActivity> tableBinder =
+                new org.seiya.argbinding.benchmark.table.BenchActivity$$ArgBinder<>();
+        check(failures, "ArgBinding.bind(Fragment) table", 0, new Call() {
+            @Override
+            public Object call() {
+                ArgBinding.get().bind(tableFragment);
+                return tableFragment;
+            }
+        });
+        check(failures, "ArgBinder.bindArgs table", 24, new Call() {
+            @Override
+            public Object call() {
+                tableBinder.bindArgs(tableActivity, activityArgs, true);
+                return tableActivity;
+            }
+        });
+        check(failures, "ArgBinder.checkRequiredArg table", 0, new Call() {
+            @Override
+            public Object call() {
+                tableBinder.checkRequiredArg(activityArgs);
+                return activityArgs;
+            }
+        });
+        // the Date, UUID and BigDecimal created by the adapters
+        final BenchAdapterActivity adapterActivity = new BenchAdapterActivity();
+        final Bundle adapterArgs = BenchAdapterActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setDate(BenchArgs.DATE)
+                .setUuid(BenchArgs.UUID_VALUE)
+                .setPrice(BenchArgs.PRICE)
+                .build()
+                .getExtras();
+        final ArgBinder<BenchAdapterActivity> adapterBinder = new BenchAdapterActivity$$ArgBinder<>();
+        check(failures, "ArgBinder.bindArgs adapters", 150, new Call() {
+            @Override
+            public Object call() {
+                adapterBinder.bindArgs(adapterActivity, adapterArgs, true);
+                return adapterActivity;
+            }
+        });
+        // only the deflated bytes put to the args and the inflated String, the Deflater, Inflater and buffers
+        // are reused
+        StringBuilder jsonBuilder = new StringBuilder("[");
+        while (jsonBuilder.length() < 2048) {
+            jsonBuilder.append("{\"id\":").append(jsonBuilder.length()).append(",\"name\":\"user\"},");
+        }
+        final String json = jsonBuilder.append("{}]").toString();
+        final Bundle compressArgs = new Bundle();
+        check(failures, "ArgCompressor.putString deflated", 400, new Call() {
+            @Override
+            public Object call() {
+                ArgCompressor.putString(compressArgs, "json", json, 0);
+                return compressArgs;
+            }
+        });
+        check(failures, "ArgCompressor.getString deflated", 2200, new Call() {
+            @Override
+            public Object call() {
+                return ArgCompressor.getString(compressArgs, "json");
+            }
+        });
+        check(failures, "BenchFragmentArgBuilder.build()", 700, new Call() {
+            @Override
+            public Object call() {
+                return BenchArgs.fragmentBuilder().build();
+            }
+        });
+        check(failures, "BenchActivityArgBuilder.build()", 750, new Call() {
+            @Override
+            public Object call() {
+                return BenchArgs.activityBuilder().build();
+            }
+        });
+        // the intent, its extras with 20 entries and the boxed primitives, the args are put to the intent
+        // directly, the copy of the entries to another bundle would exceed the budget
+        check(failures, "BenchWideActivityArgBuilder.build() 20 fields", 1300, new Call() {
+            @Override
+            public Object call() {
+                return BenchArgs.wideActivityBuilder().build();
+            }
+        });
+        // the template args are copied in bulk, the boxed primitives are shared with the template
+        final ArgTemplate<BenchWideActivityArgBuilder> wideTemplate = BenchArgs.wideActivityBuilder().snapshot();
+        check(failures, "BenchWideActivityArgBuilder.from(template)", 1200, new Call() {
+            @Override
+            public Object call() {
+                return BenchWideActivityArgBuilder.from(wideTemplate)
+                        .setContext(BenchArgs.CONTEXT)
+                        .setId(1002L)
+                        .build();
+            }
+        });
+        check(failures, "BenchActivityArgBuilder.obtain()", 450, new Call() {
+            @Override
+            public Object call() {
+                BenchActivityArgBuilder builder = BenchActivityArgBuilder.obtain()
+                        .setContext(BenchArgs.CONTEXT)
+                        .setAgeBase(30)
+                        .setAge(18)
+                        .setName("name")
+                        .setMS1(BenchArgs.SERIALIZABLE_USER);
+                Intent intent = builder.build();
+                builder.recycle();
+                return intent;
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            for (String failure : failures) {
+                System.err.println(failure);
+            }
+            System.exit(1);
+        }
+    }
+
+    private static void check(List<String> failures, String name, long budget, Call call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = call.call();
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink = call.call();
+        }
+        long bytesPerCall = (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - start) / MEASURED_CALLS;
+        System.out.println(name + ": " + bytesPerCall + " bytes/call, budget " + budget);
+        if (bytesPerCall > budget) {
+            failures.add("Allocation regression: " + name + " allocates " + bytesPerCall
+                    + " bytes/call, the budget is " + budget + ".");
+        }
+    }
+}
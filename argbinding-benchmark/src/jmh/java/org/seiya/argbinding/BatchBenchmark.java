@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchFragment;
+import org.seiya.argbinding.benchmark.BenchFragmentArgBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the fragments of a ViewPager which differ in the age and the name: {@code buildAll()} with the
+ * shared args, or a builder per item which sets all the args. The shared args are expanded when a fragment
+ * is bound, the "AndBind" benchmarks bind all the fragments, the worst case of a pager.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchBenchmark {
+
+    @Param({"10", "50"})
+    public int count;
+
+    private String[] names;
+    private ArgBuilder.ItemArgs<BenchFragmentArgBuilder> itemArgs;
+
+    @Setup
+    public void setup() {
+        names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "tab" + i;
+        }
+        itemArgs = new ArgBuilder.ItemArgs<BenchFragmentArgBuilder>() {
+            @Override
+            public void setArgs(BenchFragmentArgBuilder builder, int index) {
+                builder.setAge(index).setName(names[index]);
+            }
+        };
+    }
+
+    @Benchmark
+    public List<BenchFragment> buildAll() {
+        return BenchArgs.fragmentBuilder().buildAll(count, itemArgs);
+    }
+
+    @Benchmark
+    public List<BenchFragment> buildPerItem() {
+        List<BenchFragment> fragments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fragments.add(BenchArgs.fragmentBuilder()
+                    .setAge(i)
+                    .setName(names[i])
+                    .build());
+        }
+        return fragments;
+    }
+
+    @Benchmark
+    public List<BenchFragment> buildAllAndBind() {
+        return bindAll(buildAll());
+    }
+
+    @Benchmark
+    public List<BenchFragment> buildPerItemAndBind() {
+        return bindAll(buildPerItem());
+    }
+
+    private static List<BenchFragment> bindAll(List<BenchFragment> fragments) {
+        for (BenchFragment fragment : fragments) {
+            ArgBinding.get().bind(fragment);
+        }
+        return fragments;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Context;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.seiya.argbinding.benchmark.BenchActivityArgBuilder;
+import org.seiya.argbinding.benchmark.BenchFragmentArgBuilder;
+import org.seiya.argbinding.benchmark.BenchServiceArgBuilder;
+import org.seiya.argbinding.benchmark.BenchWideActivityArgBuilder;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+import org.seiya.argbinding.sample.model.SerializableUser;
+
+/**
+ * The args shared by the benchmarks, they are the same as the sample passes to TestActivity.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+final class BenchArgs {
+
+    static final Context CONTEXT = new Context() {
+    };
+
+    static final ParcelableUser USER = new ParcelableUser("parcelable", 18);
+    static final SerializableUser SERIALIZABLE_USER = new SerializableUser("serializable", 19);
+    static final int[] AGE_ARRAY = {1, 2, 3};
+    static final String[] NAME_ARRAY = {"a", "b", "c"};
+    static final ParcelableUser[] USER_ARRAY = {USER, new ParcelableUser("parcelable2", 20)};
+    static final ArrayList<String> NAME_LIST = new ArrayList<>(Arrays.asList(NAME_ARRAY));
+    static final ArrayList<ParcelableUser> USER_LIST = new ArrayList<>(Arrays.asList(USER_ARRAY));
+    static final Date DATE = new Date(1546300800000L);
+    static final UUID UUID_VALUE = new UUID(0x1234L, 0x5678L);
+    static final BigDecimal PRICE = new BigDecimal("19.99");
+
+    private BenchArgs() {
+    }
+
+    static BenchActivityArgBuilder activityBuilder() {
+        return BenchActivityArgBuilder.newBuilder()
+                .setContext(CONTEXT)
+                .setAgeBase(30)
+                .setAge(18)
+                .setAgeOther(19)
+                .setName("name")
+                .setP(USER)
+                .setMS1(SERIALIZABLE_USER)
+                .setAgeArray(AGE_ARRAY)
+                .setNameArray(NAME_ARRAY)
+                .setPArray(USER_ARRAY)
+                .setNameList(NAME_LIST)
+                .setPList(USER_LIST);
+    }
+
+    static BenchFragmentArgBuilder fragmentBuilder() {
+        return BenchFragmentArgBuilder.newBuilder()
+                .setAgeBase(30)
+                .setAge(18)
+                .setAgeOther(19)
+                .setName("name")
+                .setP(USER)
+                .setMS1(SERIALIZABLE_USER)
+                .setAgeArray(AGE_ARRAY)
+                .setNameArray(NAME_ARRAY)
+                .setPArray(USER_ARRAY)
+                .setNameList(NAME_LIST)
+                .setPList(USER_LIST);
+    }
+
+    static BenchServiceArgBuilder serviceBuilder() {
+        return BenchServiceArgBuilder.newBuilder()
+                .setContext(CONTEXT)
+                .setAge(18)
+                .setAgeOther(19)
+                .setName("name")
+                .setP(USER)
+                .setMS1(SERIALIZABLE_USER)
+                .setAgeArray(AGE_ARRAY)
+                .setNameArray(NAME_ARRAY)
+                .setPArray(USER_ARRAY)
+                .setNameList(NAME_LIST)
+                .setPList(USER_LIST);
+    }
+
+    /**
+     * Set all the 20 args of BenchWideActivity.
+     */
+    static BenchWideActivityArgBuilder wideActivityBuilder() {
+        return BenchWideActivityArgBuilder.newBuilder()
+                .setContext(CONTEXT)
+                .setId(1001L)
+                .setPosition(3)
+                .setUserId(2002L)
+                .setVip(true)
+                .setScore(4.5)
+                .setRatio(0.75f)
+                .setLevel((short) 2)
+                .setFlag((byte) 1)
+                .setGrade('A')
+                .setTimestamp(1546300800000L)
+                .setTitle("title")
+                .setSource("home")
+                .setPage("feed")
+                .setChannel("recommend")
+                .setQuery("query")
+                .setTraceId("trace")
+                .setUser(USER)
+                .setTags(AGE_ARRAY)
+                .setKeywords(NAME_ARRAY)
+                .setNames(NAME_LIST);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.app.Activity;
+import android.app.Fragment;
+import android.app.Service;
+import android.content.Intent;
+import android.os.Bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchActivity;
+import org.seiya.argbinding.benchmark.BenchActivity$$ArgBinder;
+import org.seiya.argbinding.benchmark.BenchFragment;
+import org.seiya.argbinding.benchmark.BenchService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link ArgBinding#bind} and {@link ArgBinder#checkRequiredArg(Bundle)} of the generated binders
+ * in the default and the table mode.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BindBenchmark {
+
+    /**
+     * The binder mode of the targets, see the annotation processor option {@code argBindingMode}.
+     */
+    @Param({"codegen", "table"})
+    public String mode;
+
+    private Activity activity;
+    private Fragment fragment;
+    private Service service;
+    private Intent serviceIntent;
+    private Bundle args;
+    private ArgBinder<Object> binder;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        boolean isTable = "table".equals(mode);
+        activity = isTable ? new org.seiya.argbinding.benchmark.table.BenchActivity() : new BenchActivity();
+        fragment = isTable ? new org.seiya.argbinding.benchmark.table.BenchFragment() : new BenchFragment();
+        service = isTable ? new org.seiya.argbinding.benchmark.table.BenchService() : new BenchService();
+        binder = isTable ? new org.seiya.argbinding.benchmark.table.BenchActivity$$ArgBinder() : new BenchActivity$$ArgBinder();
+        // the schema is the same, so the args built for the default mode are bound by both
+        activity.setIntent(BenchArgs.activityBuilder().build());
+        fragment.setArguments(BenchArgs.fragmentBuilder().buildArg());
+        serviceIntent = BenchArgs.serviceBuilder().build();
+        args = activity.getIntent().getExtras();
+    }
+
+    @Benchmark
+    public Activity bindActivity() {
+        ArgBinding.get().bind(activity);
+        return activity;
+    }
+
+    @Benchmark
+    public Fragment bindFragment() {
+        ArgBinding.get().bind(fragment);
+        return fragment;
+    }
+
+    @Benchmark
+    public Service bindService() {
+        ArgBinding.get().bind(service, serviceIntent);
+        return service;
+    }
+
+    @Benchmark
+    public Bundle checkRequiredArg() {
+        binder.checkRequiredArg(args);
+        return args;
+    }
+}
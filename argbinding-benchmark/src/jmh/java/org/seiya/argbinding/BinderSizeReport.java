@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Compare the size of the binders generated in the default and the table mode, the class file bytes and
+ * the declared methods are the JVM proxies of the dex size and the method count of the APK.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class BinderSizeReport {
+
+    private static final String CODEGEN_PACKAGE = "org.seiya.argbinding.benchmark.";
+    private static final String TABLE_PACKAGE = "org.seiya.argbinding.benchmark.table.";
+    private static final String[] TARGETS = {
+            "base.BaseBenchActivity",
+            "base.BaseBenchFragment",
+            "BenchActivity",
+            "BenchFragment",
+            "BenchService"
+    };
+
+    private BinderSizeReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long codegenBytes = 0;
+        long tableBytes = 0;
+        int codegenMethods = 0;
+        int tableMethods = 0;
+        System.out.println(String.format("%-24s %14s %14s %10s %10s",
+                "target", "codegen bytes", "table bytes", "codegen m", "table m"));
+        for (String target : TARGETS) {
+            Class<?> codegen = Class.forName(CODEGEN_PACKAGE + target + CommonConstants.BINDER_NAME_SUFFIX);
+            Class<?> table = Class.forName(TABLE_PACKAGE + target + CommonConstants.BINDER_NAME_SUFFIX);
+            long codegenSize = getClassSize(codegen);
+            long tableSize = getClassSize(table);
+            int codegenCount = codegen.getDeclaredMethods().length + codegen.getDeclaredConstructors().length;
+            int tableCount = table.getDeclaredMethods().length + table.getDeclaredConstructors().length;
+            System.out.println(String.format("%-24s %14d %14d %10d %10d",
+                    target, codegenSize, tableSize, codegenCount, tableCount));
+            codegenBytes += codegenSize;
+            tableBytes += tableSize;
+            codegenMethods += codegenCount;
+            tableMethods += tableCount;
+        }
+        System.out.println(String.format("%-24s %14d %14d %10d %10d",
+                "total", codegenBytes, tableBytes, codegenMethods, tableMethods));
+        System.out.println(String.format("The table mode saves %.1f%% bytes and %d methods, "
+                        + "TableArgBinder adds %d bytes and %d methods once.",
+                100.0 * (codegenBytes - tableBytes) / codegenBytes, codegenMethods - tableMethods,
+                getClassSize(TableArgBinder.class), TableArgBinder.class.getDeclaredMethods().length));
+    }
+
+    private static long getClassSize(Class<?> clazz) throws IOException {
+        String name = clazz.getName();
+        InputStream input = clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class");
+        if (input == null) {
+            throw new IOException("Can't find the class file of " + name);
+        }
+        try {
+            long size = 0;
+            byte[] buffer = new byte[4096];
+            for (int read; (read = input.read(buffer)) != -1; ) {
+                size += read;
+            }
+            return size;
+        } finally {
+            input.close();
+        }
+    }
+}
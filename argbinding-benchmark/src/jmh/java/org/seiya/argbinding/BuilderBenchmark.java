@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchFragment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@code newBuilder()...build()} of the generated builders.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BuilderBenchmark {
+
+    @Benchmark
+    public Intent buildActivityIntent() {
+        return BenchArgs.activityBuilder().build();
+    }
+
+    @Benchmark
+    public Intent buildWideActivityIntent() {
+        return BenchArgs.wideActivityBuilder().build();
+    }
+
+    @Benchmark
+    public BenchFragment buildFragment() {
+        return BenchArgs.fragmentBuilder().build();
+    }
+
+    @Benchmark
+    public Intent buildServiceIntent() {
+        return BenchArgs.serviceBuilder().build();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchCompressActivity;
+import org.seiya.argbinding.benchmark.BenchCompressActivityArgBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Find the break-even size of {@code BindArg.compress()}: the round trip of a JSON String put as it is
+ * and deflated, in chars of the String. The deflated arg costs more time to build and bind, and saves the
+ * parcel bytes reported by {@link ParcelSize}, which are copied by the binder transaction twice at least.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompressBenchmark {
+
+    @Param({"128", "512", "2048", "8192", "32768"})
+    public int size;
+
+    private String json;
+    private BenchCompressActivity activity;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        StringBuilder builder = new StringBuilder(size + 64).append('[');
+        for (int i = 0; builder.length() < size; i++) {
+            builder.append("{\"id\":").append(i * 7919 % 100_000)
+                    .append(",\"name\":\"user").append(i % 97)
+                    .append("\",\"vip\":").append(i % 3 == 0).append("},");
+        }
+        builder.setLength(size - 1);
+        json = builder.append(']').toString();
+        activity = new BenchCompressActivity();
+    }
+
+    private BenchCompressActivity roundTrip(Bundle extras, ParcelSize parcelSize) {
+        activity.setIntent(new Intent().putExtras(parcelSize.marshalAndUnmarshal(extras)));
+        ArgBinding.get().bind(activity);
+        return activity;
+    }
+
+    @Benchmark
+    public BenchCompressActivity roundTripPlain(ParcelSize parcelSize) {
+        Bundle extras = BenchCompressActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setJson(json)
+                .build()
+                .getExtras();
+        return roundTrip(extras, parcelSize);
+    }
+
+    @Benchmark
+    public BenchCompressActivity roundTripDeflated(ParcelSize parcelSize) {
+        Bundle extras = BenchCompressActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setDeflatedJson(json)
+                .build()
+                .getExtras();
+        return roundTrip(extras, parcelSize);
+    }
+}
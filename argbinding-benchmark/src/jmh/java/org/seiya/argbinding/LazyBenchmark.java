@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchFragment;
+import org.seiya.argbinding.benchmark.BenchFragment$$ArgBinder;
+import org.seiya.argbinding.benchmark.BenchLazyFragment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the start-up of a fragment which binds all the args with the one which decodes the args
+ * lazily by the delegates of {@code XxxLazyArgs}, when it reads one arg and all the args.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LazyBenchmark {
+
+    private Bundle args;
+    private ArgBinder<BenchFragment> binder;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        args = BenchArgs.fragmentBuilder().build().getArguments();
+        binder = new BenchFragment$$ArgBinder<>();
+    }
+
+    @Benchmark
+    public BenchFragment bindAll() {
+        BenchFragment fragment = new BenchFragment();
+        fragment.setArguments(args);
+        binder.bindArgs(fragment, args, true);
+        return fragment;
+    }
+
+    @Benchmark
+    public String lazyReadOne() {
+        BenchLazyFragment fragment = new BenchLazyFragment();
+        fragment.setArguments(args);
+        return fragment.getName();
+    }
+
+    @Benchmark
+    public BenchLazyFragment lazyReadAll() {
+        BenchLazyFragment fragment = new BenchLazyFragment();
+        fragment.setArguments(args);
+        fragment.getAge();
+        fragment.getAge2();
+        fragment.getName();
+        fragment.getP();
+        fragment.getMS1();
+        fragment.getAgeArray();
+        fragment.getAge2Array();
+        fragment.getNameArray();
+        fragment.getPArray();
+        fragment.getSArray();
+        fragment.getNameList();
+        fragment.getPList();
+        return fragment;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchPackedActivity;
+import org.seiya.argbinding.benchmark.BenchPackedActivityArgBuilder;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the round trip of an ArrayList<Long> packed to long[] with the same list put as Serializable:
+ * build, marshal, unmarshal and bind. Run it with the gc profiler for the allocation per operation, the
+ * parcel bytes are reported by {@link ParcelSize}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PackedBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private ArrayList<Long> ids;
+    private BenchPackedActivity activity;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(1_000_000_000L + i);
+        }
+        activity = new BenchPackedActivity();
+    }
+
+    private BenchPackedActivity roundTrip(Bundle extras, ParcelSize parcelSize) {
+        activity.setIntent(new Intent().putExtras(parcelSize.marshalAndUnmarshal(extras)));
+        ArgBinding.get().bind(activity);
+        return activity;
+    }
+
+    @Benchmark
+    public BenchPackedActivity roundTripPacked(ParcelSize parcelSize) {
+        Bundle extras = BenchPackedActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setIds(ids)
+                .build()
+                .getExtras();
+        return roundTrip(extras, parcelSize);
+    }
+
+    @Benchmark
+    public BenchPackedActivity roundTripBoxed(ParcelSize parcelSize) {
+        Bundle extras = BenchPackedActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setBoxedIds(ids)
+                .build()
+                .getExtras();
+        return roundTrip(extras, parcelSize);
+    }
+}
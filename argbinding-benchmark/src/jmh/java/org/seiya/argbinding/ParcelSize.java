@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Marshal and unmarshal the args through a parcel, the size of the last parcel is reported as the
+ * secondary result "parcelBytes".
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class ParcelSize {
+
+    public long parcelBytes;
+
+    Bundle marshalAndUnmarshal(Bundle extras) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(extras);
+            byte[] bytes = parcel.marshall();
+            parcelBytes = bytes.length;
+            parcel.unmarshall(bytes, 0, bytes.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle();
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.annotation.ReflectArg;
+import org.seiya.argbinding.benchmark.BenchActivity;
+import org.seiya.argbinding.benchmark.BenchActivity$$ArgBinder;
+import org.seiya.argbinding.benchmark.ReflectBenchActivity;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the generated binder with the reflection fallback {@link ReflectArgBinder}, which caches the
+ * fields, and the naive reflection, which looks up the fields and annotations on each bind. The reflected
+ * {@link ReflectBenchActivity} has the same args as {@link BenchActivity}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReflectBenchmark {
+
+    private BenchActivity activity;
+    private ReflectBenchActivity reflectActivity;
+    private Bundle args;
+    private ArgBinder<BenchActivity> generatedBinder;
+    private ArgBinder<Object> reflectBinder;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        activity = new BenchActivity();
+        reflectActivity = new ReflectBenchActivity();
+        args = BenchArgs.activityBuilder().build().getExtras();
+        generatedBinder = new BenchActivity$$ArgBinder<>();
+        reflectBinder = ReflectArgBinder.create(ReflectBenchActivity.class, null, null, false);
+    }
+
+    @Benchmark
+    public BenchActivity bindGenerated() {
+        generatedBinder.bindArgs(activity, args, true);
+        return activity;
+    }
+
+    @Benchmark
+    public ReflectBenchActivity bindReflectFallback() {
+        reflectBinder.bindArgs(reflectActivity, args, true);
+        return reflectActivity;
+    }
+
+    @Benchmark
+    public ReflectBenchActivity bindNaiveReflection() throws IllegalAccessException {
+        for (Class<?> cls = reflectActivity.getClass(); cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                ReflectArg config = field.getAnnotation(ReflectArg.class);
+                if (config == null) {
+                    continue;
+                }
+                Object value = args.get(config.value().isEmpty() ? field.getName() : config.value());
+                if (value == null && field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    field.set(reflectActivity, value);
+                } catch (IllegalArgumentException e) {
+                    // e.g. the Parcelable[] of a typed array
+                }
+            }
+        }
+        return reflectActivity;
+    }
+}
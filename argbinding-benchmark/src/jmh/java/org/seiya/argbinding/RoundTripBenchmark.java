@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchActivity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the whole trip of the args: build, marshal to bytes as the system does when starting
+ * the activity, unmarshal and bind.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoundTripBenchmark {
+
+    private BenchActivity activity;
+    private byte[] marshalled;
+
+    @Setup
+    public void setup() {
+        ArgBinding.get().setDebug(false);
+        activity = new BenchActivity();
+        marshalled = marshall(BenchArgs.activityBuilder().build().getExtras());
+    }
+
+    private static byte[] marshall(Bundle extras) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(extras);
+            return parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    private static Bundle unmarshall(byte[] bytes) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(bytes, 0, bytes.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    @Benchmark
+    public byte[] marshal() {
+        return marshall(BenchArgs.activityBuilder().build().getExtras());
+    }
+
+    @Benchmark
+    public BenchActivity unmarshalAndBind() {
+        activity.setIntent(new Intent().putExtras(unmarshall(marshalled)));
+        ArgBinding.get().bind(activity);
+        return activity;
+    }
+
+    @Benchmark
+    public BenchActivity roundTrip() {
+        Bundle extras = BenchArgs.activityBuilder().build().getExtras();
+        activity.setIntent(new Intent().putExtras(unmarshall(marshall(extras))));
+        ArgBinding.get().bind(activity);
+        return activity;
+    }
+}
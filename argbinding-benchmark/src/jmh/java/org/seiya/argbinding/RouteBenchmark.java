@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.net.Uri;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link ArgRouter#resolve} on the route table of 1000 generated activities.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteBenchmark {
+
+    @Param({"0", "500", "999"})
+    public int page;
+
+    private ArgRouter router;
+    private Uri uri;
+    private Uri missUri;
+
+    @Setup
+    public void setup() {
+        router = ArgRouter.get();
+        router.addTable(new ArgRoutes$$Benchmark());
+        uri = Uri.parse("app://host/module" + page % 10 + "/page" + page + "/detail?id=" + page + "&title=Hello+World&preview=true");
+        missUri = Uri.parse("app://host/module" + page % 10 + "/page" + page + "/missing");
+        if (router.resolve(BenchArgs.CONTEXT, uri) == null) {
+            throw new IllegalStateException("The route is not found: " + uri);
+        }
+    }
+
+    @Benchmark
+    public Intent resolve() {
+        return router.resolve(BenchArgs.CONTEXT, uri);
+    }
+
+    @Benchmark
+    public Intent resolveMiss() {
+        return router.resolve(BenchArgs.CONTEXT, missUri);
+    }
+}
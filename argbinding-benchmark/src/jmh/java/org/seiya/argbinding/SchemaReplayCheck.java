@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import org.seiya.argbinding.benchmark.ReplayActivity;
+import org.seiya.argbinding.benchmark.ReplayActivity$$ArgBinder;
+import org.seiya.argbinding.benchmark.ReplayActivityArgBuilder;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replay the payloads of the previous versions to the current binder of {@link ReplayActivity}, e.g. the
+ * extras of a PendingIntent created before an app upgrade. It exits with 1 if any payload isn't read as
+ * expected, so a change of the encodings which breaks the old payloads fails the build.
+ * <p>
+ * The payloads in {@code resources/replay} are frozen, each one is built by the builder generated by a
+ * previous version and marshalled by the {@link Parcel} stand-in. Freeze a payload of the current version
+ * here when an encoding is changed, the payloads are never removed or regenerated.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class SchemaReplayCheck {
+
+    private static final String[] FROZEN_PAYLOADS = {
+            "v0-serializable",
+            "v1-schema-hash",
+            "v2-deflated",
+            "v2-raw",
+            "v3-deflated",
+            "v3-raw"
+    };
+
+    private static final Date DATE = new Date(1546300800000L);
+    private static final UUID UUID_VALUE = new UUID(0x1234L, 0x5678L);
+    private static final BigDecimal PRICE = new BigDecimal("19.99");
+    private static final ArrayList<Long> IDS = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
+    private static final ParcelableUser USER = new ParcelableUser("user", 18);
+    private static final ParcelableUser[] USERS = {USER, new ParcelableUser("user2", 19)};
+    private static final String JSON;
+
+    static {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append("{\"id\":").append(i).append("},");
+        }
+        JSON = json.append("{}]").toString();
+    }
+
+    private SchemaReplayCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        ArgBinding.get().setDebug(false);
+        ArgBinder<ReplayActivity> binder = new ReplayActivity$$ArgBinder<>();
+        List<String> failures = new ArrayList<>();
+
+        // the current payload takes the fast path
+        Bundle current = ReplayActivityArgBuilder.newBuilder()
+                .setContext(BenchArgs.CONTEXT)
+                .setId(7)
+                .setTitle("title")
+                .setCount(3)
+                .setLevel(ReplayActivity.Level.HIGH)
+                .setDate(DATE)
+                .setUuid(UUID_VALUE)
+                .setPrice(PRICE)
+                .setIds(IDS)
+                .setJson(JSON)
+                .setUser(USER)
+                .setUsers(USERS)
+                .setAdded(9)
+                .build()
+                .getExtras();
+        check(failures, "current schema hash", current.getInt(CommonConstants.SCHEMA_HASH_KEY) == binder.getSchemaHash());
+        ReplayActivity target = bind(binder, current);
+        checkFullTarget(failures, "current", target);
+        check(failures, "current added", target.added == 9);
+
+        // the frozen payloads of the previous versions, the field "added" is absent and "removed" is ignored
+        for (String name : FROZEN_PAYLOADS) {
+            Bundle previous = readPayload(name);
+            check(failures, name + " schema hash", previous.getInt(CommonConstants.SCHEMA_HASH_KEY) != binder.getSchemaHash());
+            target = bind(binder, previous);
+            checkFullTarget(failures, name, target);
+            check(failures, name + " added is default", target.added == -1);
+        }
+
+        // the types of the fields are changed in a version with another schema, the fields keep the default values
+        Bundle changed = new Bundle();
+        changed.putInt(CommonConstants.SCHEMA_HASH_KEY, ~binder.getSchemaHash());
+        changed.putInt("id", 7);
+        changed.putLong("count", 3L);
+        changed.putString("level", "MEDIUM");
+        changed.putString("date", "2019-01-01");
+        changed.putString("uuid", UUID_VALUE.toString());
+        changed.putDouble("price", 19.99);
+        changed.putString("ids", "1,2,3");
+        changed.putInt("json", 1);
+        changed.putString("user", "user");
+        changed.putParcelableArray("users", new Parcelable[]{new Bundle()});
+        try {
+            target = bind(binder, changed);
+            check(failures, "changed types are skipped", target.id == 7 && target.count == null && target.level == null
+                    && target.date == null && target.uuid == null && target.price == null && target.ids == null
+                    && target.json == null && target.user == null && target.users == null && target.added == -1);
+        } catch (RuntimeException e) {
+            failures.add("changed types: " + e);
+        }
+
+        if (!failures.isEmpty()) {
+            for (String failure : failures) {
+                System.err.println(failure);
+            }
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Read the frozen payload, the lines starting with '#' are comments and the others are base64.
+     */
+    private static Bundle readPayload(String name) throws IOException {
+        InputStream in = SchemaReplayCheck.class.getResourceAsStream("/replay/" + name + ".parcel");
+        if (in == null) {
+            throw new FileNotFoundException("The frozen payload is missing: " + name);
+        }
+        StringBuilder base64 = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.forName("UTF-8")))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("#")) {
+                    base64.append(line.trim());
+                }
+            }
+        }
+        byte[] bytes = Base64.getDecoder().decode(base64.toString());
+        Parcel parcel = Parcel.obtain();
+        parcel.unmarshall(bytes, 0, bytes.length);
+        parcel.setDataPosition(0);
+        Bundle payload = new Bundle();
+        payload.readFromParcel(parcel);
+        parcel.recycle();
+        return payload;
+    }
+
+    private static ReplayActivity bind(ArgBinder<ReplayActivity> binder, Bundle args) {
+        ReplayActivity target = new ReplayActivity();
+        binder.bindArgs(target, args, true);
+        return target;
+    }
+
+    private static void checkFullTarget(List<String> failures, String payload, ReplayActivity target) {
+        check(failures, payload + " id", target.id == 7);
+        check(failures, payload + " title", "title".equals(target.title));
+        check(failures, payload + " count", Integer.valueOf(3).equals(target.count));
+        check(failures, payload + " level", target.level == ReplayActivity.Level.HIGH);
+        check(failures, payload + " date", DATE.equals(target.date));
+        check(failures, payload + " uuid", UUID_VALUE.equals(target.uuid));
+        check(failures, payload + " price", PRICE.equals(target.price));
+        check(failures, payload + " ids", IDS.equals(target.ids));
+        check(failures, payload + " json", JSON.equals(target.json));
+        // the Parcelables read from a parcel are new instances
+        check(failures, payload + " user", target.user != null && USER.toString().equals(target.user.toString()));
+        check(failures, payload + " users", target.users != null && Arrays.toString(USERS).equals(Arrays.toString(target.users)));
+    }
+
+    private static void check(List<String> failures, String name, boolean passed) {
+        System.out.println(name + ": " + (passed ? "ok" : "failed"));
+        if (!passed) {
+            failures.add("Schema replay failed: " + name + ".");
+        }
+    }
+}
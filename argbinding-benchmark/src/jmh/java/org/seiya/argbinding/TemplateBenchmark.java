@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding;
+
+import android.content.Intent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seiya.argbinding.benchmark.BenchWideActivityArgBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the launch of a list item click, which shares 19 of the 20 args of BenchWideActivity and
+ * differs in the id: set all the args per launch, or set the id of a builder from the template.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateBenchmark {
+
+    private ArgTemplate<BenchWideActivityArgBuilder> template;
+    private long id;
+
+    @Setup
+    public void setup() {
+        template = BenchArgs.wideActivityBuilder().snapshot();
+    }
+
+    @Benchmark
+    public Intent launchWithSetters() {
+        return BenchArgs.wideActivityBuilder()
+                .setId(++id)
+                .build();
+    }
+
+    @Benchmark
+    public Intent launchFromTemplate() {
+        return BenchWideActivityArgBuilder.from(template)
+                .setContext(BenchArgs.CONTEXT)
+                .setId(++id)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.app;
+
+import android.content.Context;
+import android.content.Intent;
+
+/**
+ * The JVM stand-in of Activity for the benchmark.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class Activity extends Context {
+
+    public static final int RESULT_CANCELED = 0;
+    public static final int RESULT_OK = -1;
+
+    private Intent intent;
+    private int resultCode = RESULT_CANCELED;
+    private Intent resultData;
+
+    public Intent getIntent() {
+        return intent;
+    }
+
+    public void setIntent(Intent newIntent) {
+        intent = newIntent;
+    }
+
+    public void startActivityForResult(Intent intent, int requestCode) {
+    }
+
+    public final void setResult(int resultCode, Intent data) {
+        this.resultCode = resultCode;
+        this.resultData = data;
+    }
+
+    public void finish() {
+    }
+}
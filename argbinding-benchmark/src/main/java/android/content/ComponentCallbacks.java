@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.content;
+
+import android.content.res.Configuration;
+
+/**
+ * The JVM stand-in of ComponentCallbacks for the benchmark.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public interface ComponentCallbacks {
+
+    void onConfigurationChanged(Configuration newConfig);
+
+    void onLowMemory();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.content;
+
+/**
+ * The JVM stand-in of Context for the benchmark, nothing is started.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public abstract class Context {
+
+    public static final int BIND_AUTO_CREATE = 0x0001;
+
+    public String getPackageName() {
+        return "org.seiya.argbinding.benchmark";
+    }
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public void registerComponentCallbacks(ComponentCallbacks callback) {
+    }
+
+    public void startActivity(Intent intent) {
+    }
+
+    public ComponentName startService(Intent service) {
+        return service.getComponent();
+    }
+
+    public boolean bindService(Intent service, ServiceConnection conn, int flags) {
+        return true;
+    }
+}
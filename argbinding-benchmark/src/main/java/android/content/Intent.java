@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.content;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+/**
+ * The JVM stand-in of Intent for the benchmark, the extras are kept in a {@link Bundle} like the real one.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class Intent implements Parcelable, Cloneable {
+
+    public static final int FLAG_ACTIVITY_NEW_TASK = 0x10000000;
+
+    public static final Creator<Intent> CREATOR = new Creator<Intent>() {
+        @Override
+        public Intent createFromParcel(Parcel source) {
+            Intent intent = new Intent();
+            intent.readFromParcel(source);
+            return intent;
+        }
+
+        @Override
+        public Intent[] newArray(int size) {
+            return new Intent[size];
+        }
+    };
+
+    private ComponentName component;
+    private int flags;
+    private Bundle extras;
+
+    public Intent() {
+    }
+
+    public Intent(Intent o) {
+        component = o.component;
+        flags = o.flags;
+        if (o.extras != null) {
+            extras = new Bundle(o.extras);
+        }
+    }
+
+    public Intent(Context packageContext, Class<?> cls) {
+        setClass(packageContext, cls);
+    }
+
+    @Override
+    public Object clone() {
+        return new Intent(this);
+    }
+
+    public Intent setClass(Context packageContext, Class<?> cls) {
+        component = new ComponentName(packageContext.getPackageName(), cls.getName());
+        return this;
+    }
+
+    public ComponentName getComponent() {
+        return component;
+    }
+
+    public Intent setFlags(int flags) {
+        this.flags = flags;
+        return this;
+    }
+
+    public Intent addFlags(int flags) {
+        this.flags |= flags;
+        return this;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public boolean hasExtra(String name) {
+        return extras != null && extras.containsKey(name);
+    }
+
+    /**
+     * Get a copy of the extras like the real one.
+     */
+    public Bundle getExtras() {
+        return extras != null ? new Bundle(extras) : null;
+    }
+
+    public Intent putExtras(Bundle extras) {
+        extras().putAll(extras);
+        return this;
+    }
+
+    public Intent putExtras(Intent src) {
+        if (src.extras != null) {
+            extras().putAll(src.extras);
+        }
+        return this;
+    }
+
+    public Intent replaceExtras(Bundle extras) {
+        this.extras = extras != null ? new Bundle(extras) : null;
+        return this;
+    }
+
+    public void removeExtra(String name) {
+        if (extras != null) {
+            extras.remove(name);
+        }
+    }
+
+    private Bundle extras() {
+        if (extras == null) {
+            extras = new Bundle();
+        }
+        return extras;
+    }
+
+    public Intent putExtra(String name, boolean value) {
+        extras().putBoolean(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, byte value) {
+        extras().putByte(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, char value) {
+        extras().putChar(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, short value) {
+        extras().putShort(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, int value) {
+        extras().putInt(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, long value) {
+        extras().putLong(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, float value) {
+        extras().putFloat(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, double value) {
+        extras().putDouble(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, String value) {
+        extras().putString(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, CharSequence value) {
+        extras().putCharSequence(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, Parcelable value) {
+        extras().putParcelable(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, Parcelable[] value) {
+        extras().putParcelableArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, Serializable value) {
+        extras().putSerializable(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, boolean[] value) {
+        extras().putBooleanArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, byte[] value) {
+        extras().putByteArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, short[] value) {
+        extras().putShortArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, char[] value) {
+        extras().putCharArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, int[] value) {
+        extras().putIntArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, long[] value) {
+        extras().putLongArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, float[] value) {
+        extras().putFloatArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, double[] value) {
+        extras().putDoubleArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, String[] value) {
+        extras().putStringArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, CharSequence[] value) {
+        extras().putCharSequenceArray(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, Bundle value) {
+        extras().putBundle(name, value);
+        return this;
+    }
+
+    public Intent putParcelableArrayListExtra(String name, ArrayList<? extends Parcelable> value) {
+        extras().putParcelableArrayList(name, value);
+        return this;
+    }
+
+    public Intent putIntegerArrayListExtra(String name, ArrayList<Integer> value) {
+        extras().putIntegerArrayList(name, value);
+        return this;
+    }
+
+    public Intent putStringArrayListExtra(String name, ArrayList<String> value) {
+        extras().putStringArrayList(name, value);
+        return this;
+    }
+
+    public Intent putCharSequenceArrayListExtra(String name, ArrayList<CharSequence> value) {
+        extras().putCharSequenceArrayList(name, value);
+        return this;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeString(component != null ? component.getPackageName() : null);
+        dest.writeString(component != null ? component.getClassName() : null);
+        dest.writeInt(this.flags);
+        dest.writeBundle(extras);
+    }
+
+    public void readFromParcel(Parcel source) {
+        String packageName = source.readString();
+        String className = source.readString();
+        component = className != null ? new ComponentName(packageName, className) : null;
+        flags = source.readInt();
+        extras = source.readBundle();
+    }
+
+    @Override
+    public String toString() {
+        return "Intent { cmp=" + (component != null ? component.getClassName() : null) + " extras=" + extras + " }";
+    }
+}
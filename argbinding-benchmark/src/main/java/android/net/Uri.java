@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.net;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The JVM stand-in of Uri for the benchmark, the path segments are parsed once and cached like the real one.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class Uri {
+
+    private final URI uri;
+    private List<String> pathSegments;
+
+    private Uri(URI uri) {
+        this.uri = uri;
+    }
+
+    public static Uri parse(String uriString) {
+        return new Uri(URI.create(uriString));
+    }
+
+    public static String decode(String s) {
+        if (s == null) {
+            return null;
+        }
+        try {
+            // keep '+' as the real one
+            return URLDecoder.decode(s.replace("+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public String getScheme() {
+        return uri.getScheme();
+    }
+
+    public String getHost() {
+        return uri.getHost();
+    }
+
+    public String getPath() {
+        return uri.getPath();
+    }
+
+    public String getEncodedQuery() {
+        return uri.getRawQuery();
+    }
+
+    public List<String> getPathSegments() {
+        if (pathSegments == null) {
+            List<String> segments = new ArrayList<>();
+            String path = uri.getPath();
+            if (path != null) {
+                for (String segment : path.split("/")) {
+                    if (!segment.isEmpty()) {
+                        segments.add(segment);
+                    }
+                }
+            }
+            pathSegments = Collections.unmodifiableList(segments);
+        }
+        return pathSegments;
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
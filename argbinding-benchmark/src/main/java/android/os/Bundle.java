@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.os;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * The JVM stand-in of Bundle for the benchmark, it keeps the values in a map like the real one and
+ * is marshalled by {@link Parcel}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class Bundle implements Cloneable, Parcelable {
+
+    public static final Bundle EMPTY = new Bundle(0);
+
+    public static final Creator<Bundle> CREATOR = new Creator<Bundle>() {
+        @Override
+        public Bundle createFromParcel(Parcel source) {
+            return source.readBundle();
+        }
+
+        @Override
+        public Bundle[] newArray(int size) {
+            return new Bundle[size];
+        }
+    };
+
+    final HashMap<String, Object> map;
+
+    public Bundle() {
+        map = new HashMap<>();
+    }
+
+    public Bundle(int capacity) {
+        map = new HashMap<>(capacity);
+    }
+
+    public Bundle(ClassLoader loader) {
+        this();
+    }
+
+    public Bundle(Bundle b) {
+        map = new HashMap<>(b.map);
+    }
+
+    public void setClassLoader(ClassLoader loader) {
+    }
+
+    @Override
+    public Object clone() {
+        return new Bundle(this);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public boolean containsKey(String key) {
+        return map.containsKey(key);
+    }
+
+    public Object get(String key) {
+        return map.get(key);
+    }
+
+    public void remove(String key) {
+        map.remove(key);
+    }
+
+    public void putAll(Bundle bundle) {
+        map.putAll(bundle.map);
+    }
+
+    public Set<String> keySet() {
+        return map.keySet();
+    }
+
+    public void putBoolean(String key, boolean value) {
+        map.put(key, value);
+    }
+
+    public void putByte(String key, byte value) {
+        map.put(key, value);
+    }
+
+    public void putChar(String key, char value) {
+        map.put(key, value);
+    }
+
+    public void putShort(String key, short value) {
+        map.put(key, value);
+    }
+
+    public void putInt(String key, int value) {
+        map.put(key, value);
+    }
+
+    public void putLong(String key, long value) {
+        map.put(key, value);
+    }
+
+    public void putFloat(String key, float value) {
+        map.put(key, value);
+    }
+
+    public void putDouble(String key, double value) {
+        map.put(key, value);
+    }
+
+    public void putString(String key, String value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequence(String key, CharSequence value) {
+        map.put(key, value);
+    }
+
+    public void putParcelable(String key, Parcelable value) {
+        map.put(key, value);
+    }
+
+    public void putParcelableArray(String key, Parcelable[] value) {
+        map.put(key, value);
+    }
+
+    public void putParcelableArrayList(String key, ArrayList<? extends Parcelable> value) {
+        map.put(key, value);
+    }
+
+    public void putIntegerArrayList(String key, ArrayList<Integer> value) {
+        map.put(key, value);
+    }
+
+    public void putStringArrayList(String key, ArrayList<String> value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequenceArrayList(String key, ArrayList<CharSequence> value) {
+        map.put(key, value);
+    }
+
+    public void putSerializable(String key, Serializable value) {
+        map.put(key, value);
+    }
+
+    public void putBooleanArray(String key, boolean[] value) {
+        map.put(key, value);
+    }
+
+    public void putByteArray(String key, byte[] value) {
+        map.put(key, value);
+    }
+
+    public void putShortArray(String key, short[] value) {
+        map.put(key, value);
+    }
+
+    public void putCharArray(String key, char[] value) {
+        map.put(key, value);
+    }
+
+    public void putIntArray(String key, int[] value) {
+        map.put(key, value);
+    }
+
+    public void putLongArray(String key, long[] value) {
+        map.put(key, value);
+    }
+
+    public void putFloatArray(String key, float[] value) {
+        map.put(key, value);
+    }
+
+    public void putDoubleArray(String key, double[] value) {
+        map.put(key, value);
+    }
+
+    public void putStringArray(String key, String[] value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequenceArray(String key, CharSequence[] value) {
+        map.put(key, value);
+    }
+
+    public void putBundle(String key, Bundle value) {
+        map.put(key, value);
+    }
+
+    /**
+     * Get the value of the type, the default value is returned if it's absent or the type is different.
+     * The primitive getters don't use it, so the default value isn't boxed.
+     */
+    private <T> T get(String key, Class<T> type, T defaultValue) {
+        Object value = map.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return type.cast(value);
+        } catch (ClassCastException e) {
+            return defaultValue;
+        }
+    }
+
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+
+    public byte getByte(String key) {
+        return getByte(key, (byte) 0);
+    }
+
+    public Byte getByte(String key, byte defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Byte ? (Byte) value : defaultValue;
+    }
+
+    public char getChar(String key) {
+        return getChar(key, (char) 0);
+    }
+
+    public char getChar(String key, char defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Character ? (Character) value : defaultValue;
+    }
+
+    public short getShort(String key) {
+        return getShort(key, (short) 0);
+    }
+
+    public short getShort(String key, short defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Short ? (Short) value : defaultValue;
+    }
+
+    public int getInt(String key) {
+        return getInt(key, 0);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+
+    public long getLong(String key) {
+        return getLong(key, 0L);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Long ? (Long) value : defaultValue;
+    }
+
+    public float getFloat(String key) {
+        return getFloat(key, 0f);
+    }
+
+    public float getFloat(String key, float defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Float ? (Float) value : defaultValue;
+    }
+
+    public double getDouble(String key) {
+        return getDouble(key, 0d);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Double ? (Double) value : defaultValue;
+    }
+
+    public String getString(String key) {
+        return get(key, String.class, null);
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = getString(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public CharSequence getCharSequence(String key) {
+        return get(key, CharSequence.class, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Parcelable> T getParcelable(String key) {
+        return (T) get(key, Parcelable.class, null);
+    }
+
+    public Parcelable[] getParcelableArray(String key) {
+        return get(key, Parcelable[].class, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Parcelable> ArrayList<T> getParcelableArrayList(String key) {
+        return get(key, ArrayList.class, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList<Integer> getIntegerArrayList(String key) {
+        return get(key, ArrayList.class, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList<String> getStringArrayList(String key) {
+        return get(key, ArrayList.class, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList<CharSequence> getCharSequenceArrayList(String key) {
+        return get(key, ArrayList.class, null);
+    }
+
+    public Serializable getSerializable(String key) {
+        return get(key, Serializable.class, null);
+    }
+
+    public boolean[] getBooleanArray(String key) {
+        return get(key, boolean[].class, null);
+    }
+
+    public byte[] getByteArray(String key) {
+        return get(key, byte[].class, null);
+    }
+
+    public short[] getShortArray(String key) {
+        return get(key, short[].class, null);
+    }
+
+    public char[] getCharArray(String key) {
+        return get(key, char[].class, null);
+    }
+
+    public int[] getIntArray(String key) {
+        return get(key, int[].class, null);
+    }
+
+    public long[] getLongArray(String key) {
+        return get(key, long[].class, null);
+    }
+
+    public float[] getFloatArray(String key) {
+        return get(key, float[].class, null);
+    }
+
+    public double[] getDoubleArray(String key) {
+        return get(key, double[].class, null);
+    }
+
+    public String[] getStringArray(String key) {
+        return get(key, String[].class, null);
+    }
+
+    public CharSequence[] getCharSequenceArray(String key) {
+        return get(key, CharSequence[].class, null);
+    }
+
+    public Bundle getBundle(String key) {
+        return get(key, Bundle.class, null);
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeBundle(this);
+    }
+
+    public void readFromParcel(Parcel source) {
+        map.clear();
+        Bundle bundle = source.readBundle();
+        if (bundle != null) {
+            map.putAll(bundle.map);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Bundle[" + map + "]";
+    }
+}
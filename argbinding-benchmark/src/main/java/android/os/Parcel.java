@@ -0,0 +1,476 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.os;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JVM stand-in of Parcel for the benchmark. The values are written to a byte array with the same
+ * type tags and order as the real one, so the marshalling cost of each type is comparable.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class Parcel {
+
+    private static final int VAL_NULL = -1;
+    private static final int VAL_STRING = 0;
+    private static final int VAL_INTEGER = 1;
+    private static final int VAL_BUNDLE = 3;
+    private static final int VAL_PARCELABLE = 4;
+    private static final int VAL_SHORT = 5;
+    private static final int VAL_LONG = 6;
+    private static final int VAL_FLOAT = 7;
+    private static final int VAL_DOUBLE = 8;
+    private static final int VAL_BOOLEAN = 9;
+    private static final int VAL_CHARSEQUENCE = 10;
+    private static final int VAL_LIST = 11;
+    private static final int VAL_BYTEARRAY = 13;
+    private static final int VAL_STRINGARRAY = 14;
+    private static final int VAL_PARCELABLEARRAY = 16;
+    private static final int VAL_INTARRAY = 18;
+    private static final int VAL_LONGARRAY = 19;
+    private static final int VAL_BYTE = 20;
+    private static final int VAL_SERIALIZABLE = 21;
+    private static final int VAL_BOOLEANARRAY = 23;
+    private static final int VAL_DOUBLEARRAY = 28;
+
+    private static final Map<String, Parcelable.Creator<?>> CREATORS = new HashMap<>();
+
+    private byte[] data = new byte[256];
+    private int dataSize;
+    private int dataPosition;
+
+    private Parcel() {
+    }
+
+    public static Parcel obtain() {
+        return new Parcel();
+    }
+
+    public void recycle() {
+        dataSize = 0;
+        dataPosition = 0;
+    }
+
+    public byte[] marshall() {
+        return Arrays.copyOf(data, dataSize);
+    }
+
+    public void unmarshall(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, data, 0, length);
+        dataSize = length;
+        dataPosition = 0;
+    }
+
+    public int dataSize() {
+        return dataSize;
+    }
+
+    public int dataPosition() {
+        return dataPosition;
+    }
+
+    public void setDataPosition(int position) {
+        dataPosition = position;
+    }
+
+    private void ensureCapacity(int length) {
+        if (data.length < length) {
+            data = Arrays.copyOf(data, Math.max(length, data.length * 2));
+        }
+    }
+
+    private void grow(int length) {
+        ensureCapacity(dataPosition + length);
+        dataSize = Math.max(dataSize, dataPosition + length);
+    }
+
+    public void writeInt(int value) {
+        grow(4);
+        data[dataPosition++] = (byte) (value >>> 24);
+        data[dataPosition++] = (byte) (value >>> 16);
+        data[dataPosition++] = (byte) (value >>> 8);
+        data[dataPosition++] = (byte) value;
+    }
+
+    public int readInt() {
+        return (data[dataPosition++] & 0xff) << 24 | (data[dataPosition++] & 0xff) << 16
+                | (data[dataPosition++] & 0xff) << 8 | data[dataPosition++] & 0xff;
+    }
+
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    public long readLong() {
+        return (long) readInt() << 32 | readInt() & 0xffffffffL;
+    }
+
+    public void writeFloat(float value) {
+        writeInt(Float.floatToRawIntBits(value));
+    }
+
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        int length = value.length();
+        writeInt(length);
+        grow(length * 2);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            data[dataPosition++] = (byte) (c >>> 8);
+            data[dataPosition++] = (byte) c;
+        }
+    }
+
+    public String readString() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ((data[dataPosition++] & 0xff) << 8 | data[dataPosition++] & 0xff);
+        }
+        return new String(chars);
+    }
+
+    public void writeByteArray(byte[] value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(value.length);
+        grow(value.length);
+        System.arraycopy(value, 0, data, dataPosition, value.length);
+        dataPosition += value.length;
+    }
+
+    public byte[] createByteArray() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = Arrays.copyOfRange(data, dataPosition, dataPosition + length);
+        dataPosition += length;
+        return value;
+    }
+
+    public void writeBundle(Bundle value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(value.map.size());
+        for (Map.Entry<String, Object> entry : value.map.entrySet()) {
+            writeString(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    public Bundle readBundle() {
+        return readBundle(null);
+    }
+
+    public Bundle readBundle(ClassLoader loader) {
+        int size = readInt();
+        if (size < 0) {
+            return null;
+        }
+        Bundle bundle = new Bundle(size);
+        for (int i = 0; i < size; i++) {
+            String key = readString();
+            bundle.map.put(key, readValue(loader));
+        }
+        return bundle;
+    }
+
+    public void writeParcelable(Parcelable value, int flags) {
+        if (value == null) {
+            writeString(null);
+            return;
+        }
+        writeString(value.getClass().getName());
+        value.writeToParcel(this, flags);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Parcelable> T readParcelable(ClassLoader loader) {
+        String name = readString();
+        if (name == null) {
+            return null;
+        }
+        return (T) getCreator(name).createFromParcel(this);
+    }
+
+    /**
+     * Get the CREATOR of the Parcelable class, it's cached like the real one.
+     */
+    private static Parcelable.Creator<?> getCreator(String name) {
+        synchronized (CREATORS) {
+            Parcelable.Creator<?> creator = CREATORS.get(name);
+            if (creator == null) {
+                try {
+                    Field field = Class.forName(name).getField("CREATOR");
+                    creator = (Parcelable.Creator<?>) field.get(null);
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException("Parcelable protocol requires a CREATOR: " + name, e);
+                }
+                CREATORS.put(name, creator);
+            }
+            return creator;
+        }
+    }
+
+    public void writeSerializable(Serializable value) {
+        if (value == null) {
+            writeByteArray(null);
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Parcelable encountered IOException writing serializable object", e);
+        }
+        writeByteArray(bytes.toByteArray());
+    }
+
+    public Serializable readSerializable() {
+        byte[] bytes = createByteArray();
+        if (bytes == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Serializable) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Parcelable encountered exception reading serializable object", e);
+        }
+    }
+
+    /**
+     * Write the value with its type tag, the types are checked in the same order as the real one.
+     */
+    public void writeValue(Object value) {
+        if (value == null) {
+            writeInt(VAL_NULL);
+        } else if (value instanceof String) {
+            writeInt(VAL_STRING);
+            writeString((String) value);
+        } else if (value instanceof Integer) {
+            writeInt(VAL_INTEGER);
+            writeInt((Integer) value);
+        } else if (value instanceof Bundle) {
+            writeInt(VAL_BUNDLE);
+            writeBundle((Bundle) value);
+        } else if (value instanceof Parcelable) {
+            writeInt(VAL_PARCELABLE);
+            writeParcelable((Parcelable) value, 0);
+        } else if (value instanceof Short) {
+            writeInt(VAL_SHORT);
+            writeInt((Short) value);
+        } else if (value instanceof Long) {
+            writeInt(VAL_LONG);
+            writeLong((Long) value);
+        } else if (value instanceof Float) {
+            writeInt(VAL_FLOAT);
+            writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            writeInt(VAL_DOUBLE);
+            writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            writeInt(VAL_BOOLEAN);
+            writeInt((Boolean) value ? 1 : 0);
+        } else if (value instanceof CharSequence) {
+            writeInt(VAL_CHARSEQUENCE);
+            writeString(value.toString());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            writeInt(VAL_LIST);
+            writeInt(list.size());
+            for (Object item : list) {
+                writeValue(item);
+            }
+        } else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            writeInt(VAL_BOOLEANARRAY);
+            writeInt(array.length);
+            for (boolean item : array) {
+                writeInt(item ? 1 : 0);
+            }
+        } else if (value instanceof byte[]) {
+            writeInt(VAL_BYTEARRAY);
+            writeByteArray((byte[]) value);
+        } else if (value instanceof String[]) {
+            String[] array = (String[]) value;
+            writeInt(VAL_STRINGARRAY);
+            writeInt(array.length);
+            for (String item : array) {
+                writeString(item);
+            }
+        } else if (value instanceof Parcelable[]) {
+            Parcelable[] array = (Parcelable[]) value;
+            writeInt(VAL_PARCELABLEARRAY);
+            writeInt(array.length);
+            for (Parcelable item : array) {
+                writeParcelable(item, 0);
+            }
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            writeInt(VAL_INTARRAY);
+            writeInt(array.length);
+            for (int item : array) {
+                writeInt(item);
+            }
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            writeInt(VAL_LONGARRAY);
+            writeInt(array.length);
+            for (long item : array) {
+                writeLong(item);
+            }
+        } else if (value instanceof Byte) {
+            writeInt(VAL_BYTE);
+            writeInt((Byte) value);
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            writeInt(VAL_DOUBLEARRAY);
+            writeInt(array.length);
+            for (double item : array) {
+                writeDouble(item);
+            }
+        } else if (value instanceof Serializable) {
+            writeInt(VAL_SERIALIZABLE);
+            writeSerializable((Serializable) value);
+        } else {
+            throw new RuntimeException("Parcel: unable to marshal value " + value);
+        }
+    }
+
+    public Object readValue(ClassLoader loader) {
+        int type = readInt();
+        switch (type) {
+            case VAL_NULL:
+                return null;
+            case VAL_STRING:
+            case VAL_CHARSEQUENCE:
+                return readString();
+            case VAL_INTEGER:
+                return readInt();
+            case VAL_BUNDLE:
+                return readBundle(loader);
+            case VAL_PARCELABLE:
+                return readParcelable(loader);
+            case VAL_SHORT:
+                return (short) readInt();
+            case VAL_LONG:
+                return readLong();
+            case VAL_FLOAT:
+                return readFloat();
+            case VAL_DOUBLE:
+                return readDouble();
+            case VAL_BOOLEAN:
+                return readInt() != 0;
+            case VAL_LIST: {
+                int size = readInt();
+                ArrayList<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(loader));
+                }
+                return list;
+            }
+            case VAL_BOOLEANARRAY: {
+                boolean[] array = new boolean[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readInt() != 0;
+                }
+                return array;
+            }
+            case VAL_BYTEARRAY:
+                return createByteArray();
+            case VAL_STRINGARRAY: {
+                String[] array = new String[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readString();
+                }
+                return array;
+            }
+            case VAL_PARCELABLEARRAY: {
+                Parcelable[] array = new Parcelable[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readParcelable(loader);
+                }
+                return array;
+            }
+            case VAL_INTARRAY: {
+                int[] array = new int[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readInt();
+                }
+                return array;
+            }
+            case VAL_LONGARRAY: {
+                long[] array = new long[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readLong();
+                }
+                return array;
+            }
+            case VAL_BYTE:
+                return (byte) readInt();
+            case VAL_DOUBLEARRAY: {
+                double[] array = new double[readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readDouble();
+                }
+                return array;
+            }
+            case VAL_SERIALIZABLE:
+                return readSerializable();
+            default:
+                throw new RuntimeException("Parcel: unmarshalling unknown type code " + type);
+        }
+    }
+}
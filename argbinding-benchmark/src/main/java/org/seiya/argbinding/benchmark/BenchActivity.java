@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding.benchmark;
+
+import java.util.ArrayList;
+
+import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+import org.seiya.argbinding.sample.model.SerializableUser;
+
+import org.seiya.argbinding.benchmark.base.BaseBenchActivity;
+
+/**
+ * The same args as TestActivity of the sample.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class BenchActivity extends BaseBenchActivity {
+
+    @BindArg
+    int age;
+    @BindArg(value = "ageOther", required = false)
+    Integer age2;
+    @BindArg
+    String name;
+    @BindArg(required = false)
+    ParcelableUser p;
+    @BindArg
+    SerializableUser mS1;
+    @BindArg(required = false)
+    int[] ageArray;
+    @BindArg(required = false)
+    Integer[] age2Array;
+    @BindArg(required = false)
+    String[] nameArray;
+    @BindArg(required = false)
+    ParcelableUser[] pArray;
+    @BindArg(required = false)
+    SerializableUser[] sArray;
+    @BindArg(required = false)
+    ArrayList<String> nameList;
+    @BindArg(required = false)
+    ArrayList<ParcelableUser> pList;
+}
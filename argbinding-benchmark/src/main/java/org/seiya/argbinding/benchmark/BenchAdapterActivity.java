@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding.benchmark;
+
+import android.app.Activity;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+
+import org.seiya.argbinding.annotation.BindArg;
+
+/**
+ * The fields put by the built-in adapters, compared with {@link BenchSerializableActivity}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class BenchAdapterActivity extends Activity {
+
+    @BindArg
+    Date date;
+    @BindArg
+    UUID uuid;
+    @BindArg
+    BigDecimal price;
+}
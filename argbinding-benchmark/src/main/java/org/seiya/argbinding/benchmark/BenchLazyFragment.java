@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding.benchmark;
+
+import android.app.Fragment;
+
+import java.util.ArrayList;
+
+import org.seiya.argbinding.LazyArg;
+import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+import org.seiya.argbinding.sample.model.SerializableUser;
+
+/**
+ * The same args as {@link BenchFragment} in the shape of a Kotlin fragment with delegated properties
+ * compiled by kapt, e.g. {@code @get:BindArg val name: String by args.name()}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class BenchLazyFragment extends Fragment {
+
+    private final BenchLazyFragmentLazyArgs args = new BenchLazyFragmentLazyArgs();
+    private final LazyArg<Integer> age = args.age();
+    private final LazyArg<Integer> age2 = args.ageOther();
+    private final LazyArg<String> name = args.name();
+    private final LazyArg<ParcelableUser> p = args.p();
+    private final LazyArg<SerializableUser> mS1 = args.mS1();
+    private final LazyArg<int[]> ageArray = args.ageArray();
+    private final LazyArg<Integer[]> age2Array = args.age2Array();
+    private final LazyArg<String[]> nameArray = args.nameArray();
+    private final LazyArg<ParcelableUser[]> pArray = args.pArray();
+    private final LazyArg<SerializableUser[]> sArray = args.sArray();
+    private final LazyArg<ArrayList<String>> nameList = args.nameList();
+    private final LazyArg<ArrayList<ParcelableUser>> pList = args.pList();
+
+    @BindArg
+    public int getAge() {
+        return age.getValue(this, null);
+    }
+
+    @BindArg(value = "ageOther", required = false)
+    public Integer getAge2() {
+        return age2.getValue(this, null);
+    }
+
+    @BindArg
+    public String getName() {
+        return name.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public ParcelableUser getP() {
+        return p.getValue(this, null);
+    }
+
+    @BindArg
+    public SerializableUser getMS1() {
+        return mS1.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public int[] getAgeArray() {
+        return ageArray.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public Integer[] getAge2Array() {
+        return age2Array.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public String[] getNameArray() {
+        return nameArray.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public ParcelableUser[] getPArray() {
+        return pArray.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public SerializableUser[] getSArray() {
+        return sArray.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public ArrayList<String> getNameList() {
+        return nameList.getValue(this, null);
+    }
+
+    @BindArg(required = false)
+    public ArrayList<ParcelableUser> getPList() {
+        return pList.getValue(this, null);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.seiya.argbinding.benchmark;
+
+import android.app.Activity;
+
+import java.util.ArrayList;
+
+import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+
+/**
+ * An activity with 20 args, e.g. a detail page with the tracking args.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class BenchWideActivity extends Activity {
+
+    @BindArg
+    long id;
+    @BindArg(required = false)
+    int position;
+    @BindArg(required = false)
+    long userId;
+    @BindArg(required = false)
+    boolean vip;
+    @BindArg(required = false)
+    double score;
+    @BindArg(required = false)
+    float ratio;
+    @BindArg(required = false)
+    short level;
+    @BindArg(required = false)
+    byte flag;
+    @BindArg(required = false)
+    char grade;
+    @BindArg(required = false)
+    long timestamp;
+    @BindArg(required = false)
+    String title;
+    @BindArg(required = false)
+    String source;
+    @BindArg(required = false)
+    String page;
+    @BindArg(required = false)
+    String channel;
+    @BindArg(required = false)
+    String query;
+    @BindArg(required = false)
+    String traceId;
+    @BindArg(required = false)
+    ParcelableUser user;
+    @BindArg(required = false)
+    int[] tags;
+    @BindArg(required = false)
+    String[] keywords;
+    @BindArg(required = false)
+    ArrayList<String> names;
+}
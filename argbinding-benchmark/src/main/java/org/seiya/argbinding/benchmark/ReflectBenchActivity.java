@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding.benchmark;
+
+import android.app.Activity;
+
+import java.util.ArrayList;
+
+import org.seiya.argbinding.annotation.ReflectArg;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+import org.seiya.argbinding.sample.model.SerializableUser;
+
+/**
+ * The same args as {@link BenchActivity} without generated binder, it's bound by the reflection fallback.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class ReflectBenchActivity extends Activity {
+
+    @ReflectArg
+    protected int ageBase;
+    @ReflectArg
+    int age;
+    @ReflectArg(value = "ageOther", required = false)
+    Integer age2;
+    @ReflectArg
+    String name;
+    @ReflectArg(required = false)
+    ParcelableUser p;
+    @ReflectArg
+    SerializableUser mS1;
+    @ReflectArg(required = false)
+    int[] ageArray;
+    @ReflectArg(required = false)
+    Integer[] age2Array;
+    @ReflectArg(required = false)
+    String[] nameArray;
+    @ReflectArg(required = false)
+    ParcelableUser[] pArray;
+    @ReflectArg(required = false)
+    SerializableUser[] sArray;
+    @ReflectArg(required = false)
+    ArrayList<String> nameList;
+    @ReflectArg(required = false)
+    ArrayList<ParcelableUser> pList;
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding.benchmark;
+
+import android.app.Activity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+
+import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.sample.model.ParcelableUser;
+
+/**
+ * The target of the schema replay check, it has a field of each encoding, so the payloads of the
+ * previous versions can be replayed to its current binder.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class ReplayActivity extends Activity {
+
+    public enum Level {
+        LOW, HIGH
+    }
+
+    @BindArg
+    public int id;
+    @BindArg(required = false)
+    public String title;
+    @BindArg(required = false)
+    public Integer count;
+    @BindArg(required = false)
+    public Level level;
+    @BindArg(required = false)
+    public Date date;
+    @BindArg(required = false)
+    public UUID uuid;
+    @BindArg(required = false)
+    public BigDecimal price;
+    @BindArg(required = false)
+    public ArrayList<Long> ids;
+    @BindArg(required = false, compress = 256)
+    public String json;
+    @BindArg(required = false)
+    public ParcelableUser user;
+    @BindArg(required = false)
+    public ParcelableUser[] users;
+    /**
+     * Added in the current version, it's absent from the old payloads.
+     */
+    @BindArg(required = false)
+    public long added = -1;
+}
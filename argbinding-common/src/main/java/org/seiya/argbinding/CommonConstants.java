@@ -26,4 +26,29 @@ class CommonConstants {
     public static final String SEPARATOR = "$$";
     public static final String BINDER_NAME_SUFFIX = SEPARATOR + "ArgBinder";
     public static final String BUILDER_NAME_SUFFIX = "ArgBuilder";
+    /**
+     * The suffix of the immutable args generated by {@code BindTarget.generateArgs}.
+     */
+    public static final String ARGS_NAME_SUFFIX = "Args";
+    /**
+     * The suffix of the lazy args generated for the targets with {@code BindArg} getters.
+     */
+    public static final String LAZY_ARGS_NAME_SUFFIX = "LazyArgs";
+    public static final String RESULT_DISPATCHER_NAME_SUFFIX = SEPARATOR + "ResultDispatcher";
+    /**
+     * The prefix of the generated route table, the suffix is the module name.
+     */
+    public static final String ROUTES_NAME_PREFIX = "ArgRoutes" + SEPARATOR;
+    /**
+     * The key of the schema hash which the builder stamps into the args.
+     */
+    public static final String SCHEMA_HASH_KEY = SEPARATOR + "schemaHash";
+    /**
+     * The key of the saved args in the saved instance state.
+     */
+    public static final String SAVED_ARGS_KEY = SEPARATOR + "savedArgs";
+    /**
+     * The key of the args shared by the items built in batch.
+     */
+    public static final String SHARED_ARGS_KEY = SEPARATOR + "sharedArgs";
 }
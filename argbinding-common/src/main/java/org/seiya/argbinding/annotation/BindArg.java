@@ -22,15 +22,24 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Mark field need bind arg.
+ * Mark field need bind arg. It's only read by the annotation processor, the targets bound by the
+ * reflection fallback use {@link ReflectArg}.
+ * <p>
+ * Mark the getter of a Kotlin delegated property, {@code @get:BindArg val name: String by args.name()},
+ * the arg is decoded lazily by the generated {@code XxxLazyArgs} instead of bound.
  *
  * @author ZhengAn
  * @date 2019/2/12
  */
 @Retention(RetentionPolicy.CLASS)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.METHOD})
 public @interface BindArg {
 
+    /**
+     * The value of {@link #compress()} which means never compress.
+     */
+    int NO_COMPRESS = -1;
+
     /**
      * Alias of the field.
      */
@@ -40,4 +49,10 @@ public @interface BindArg {
      * Whether the arg is required.
      */
     boolean required() default true;
+
+    /**
+     * The size threshold in bytes to compress the arg, the arg will be deflated when its size is larger
+     * than the threshold. Only String and byte[] field are supported, the default is never compress.
+     */
+    int compress() default NO_COMPRESS;
 }
\ No newline at end of file
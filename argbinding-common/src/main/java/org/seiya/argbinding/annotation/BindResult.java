@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark class as activity result whose {@link BindArg} fields are the result extras, the result builder
+ * and binder will be generated for it.
+ * Or mark method of the caller to receive the result with {@link #requestCode()}, the method parameters
+ * can be {@code (int resultCode, Result result)}, {@code (Result result)}, {@code (int resultCode)} or
+ * empty, a dispatcher will be generated for the caller.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface BindResult {
+
+    /**
+     * The request code of the method, it's ignored on class.
+     */
+    int requestCode() default 0;
+}
@@ -32,4 +32,16 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface BindTarget {
 
+    /**
+     * The deep link path of the activity, such as "/user/detail". The query parameters are set to
+     * the fields with the same alias.
+     */
+    String path() default "";
+
+    /**
+     * Whether to generate the immutable args class {@code XxxArgs}, it has the final fields of the args
+     * read by {@code XxxArgs.from(bundle)} once, so the target can hold it in a final field or receive it by
+     * the constructor, and share it across threads.
+     */
+    boolean generateArgs() default false;
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark field need bind arg by reflection, for the targets without generated binder, e.g. the classes of
+ * a dynamic feature module compiled without the annotation processor, see
+ * {@code ArgBinding.setReflectFallback(boolean)}. It's retained at runtime, while {@link BindArg} is only
+ * read by the annotation processor.
+ * <p>
+ * The arg is read in the natural bundle type of the field, the adapters, enums by name, compression and
+ * packing of {@link BindArg} are not supported.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ReflectArg {
+
+    /**
+     * Alias of the field.
+     */
+    String value() default "";
+
+    /**
+     * Whether the arg is required.
+     */
+    boolean required() default true;
+}
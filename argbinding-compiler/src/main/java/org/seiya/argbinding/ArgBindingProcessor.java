@@ -17,8 +17,11 @@
 package org.seiya.argbinding;
 
 import com.google.auto.service.AutoService;
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -27,16 +30,23 @@ import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import com.squareup.javapoet.WildcardTypeName;
 
+import org.seiya.argbinding.annotation.ArgAdapter;
 import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.annotation.BindResult;
 import org.seiya.argbinding.annotation.BindTarget;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -44,11 +54,15 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedSourceVersion;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
@@ -66,6 +80,7 @@ import static javax.lang.model.element.Modifier.PUBLIC;
  */
 @AutoService(Processor.class)
 @SupportedSourceVersion(SourceVersion.RELEASE_7)
+@SupportedOptions({ArgBindingProcessor.MODULE_OPTION, ArgBindingProcessor.MODE_OPTION})
 public class ArgBindingProcessor extends AbstractProcessor {
 
     public static final String GENERATED_FILE_COMMENT = "THIS CODE IS GENERATED BY ArgBinding, DO NOT EDIT.";
@@ -77,6 +92,28 @@ public class ArgBindingProcessor extends AbstractProcessor {
     public static final String FRAGMENT = "android.app.Fragment";
     public static final String V4_FRAGMENT = "android.support.v4.app.Fragment";
     public static final String SERVICE = "android.app.Service";
+    public static final String ARG_TYPE_ADAPTER = "org.seiya.argbinding.ArgTypeAdapter";
+    /**
+     * The option of the module name, it's the suffix of the generated route table and keep rules.
+     */
+    public static final String MODULE_OPTION = "argBindingModule";
+    public static final String DEFAULT_MODULE_NAME = "App";
+    /**
+     * The option of the binder mode, {@link #MODE_CODEGEN} or {@link #MODE_TABLE}.
+     */
+    public static final String MODE_OPTION = "argBindingMode";
+    /**
+     * Generate the code to bind each field, it's the default mode.
+     */
+    public static final String MODE_CODEGEN = "codegen";
+    /**
+     * Generate a table of the fields which is bound by TableArgBinder, it has much less code.
+     */
+    public static final String MODE_TABLE = "table";
+    /**
+     * The max count of route nodes matched in one method, it keeps the method under the code size limit.
+     */
+    private static final int MAX_ROUTE_NODES_PER_METHOD = 256;
 
     private static final ClassName BUNDLE_CLASS = ClassName.bestGuess("android.os.Bundle");
     private static final ClassName PARCELABLE_CLASS = ClassName.bestGuess(PARCELABLE);
@@ -84,6 +121,19 @@ public class ArgBindingProcessor extends AbstractProcessor {
     private static final ClassName ACTIVITY_ARG_BUILDER_CLASS = ClassName.bestGuess("org.seiya.argbinding.ActivityArgBuilder");
     private static final ClassName SERVICE_ARG_BUILDER_CLASS = ClassName.bestGuess("org.seiya.argbinding.ServiceArgBuilder");
     private static final ClassName ARG_BINDER_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgBinder");
+    private static final ClassName TABLE_ARG_BINDER_CLASS = ClassName.bestGuess("org.seiya.argbinding.TableArgBinder");
+    private static final ClassName ARG_BUILDER_POOL_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgBuilderPool");
+    private static final ClassName ARG_TEMPLATE_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgTemplate");
+    private static final ClassName ARG_FRAGMENT_CACHE_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgFragmentCache");
+    private static final ClassName INTENT_CLASS = ClassName.bestGuess("android.content.Intent");
+    private static final ClassName URI_CLASS = ClassName.bestGuess("android.net.Uri");
+    private static final ClassName ARG_ROUTE_TABLE_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgRouteTable");
+    private static final ClassName ARG_ROUTE_QUERY_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgRouteQuery");
+    private static final ClassName RESULT_ARG_BUILDER_CLASS = ClassName.bestGuess("org.seiya.argbinding.ResultArgBuilder");
+    private static final ClassName ARG_COMPRESSOR_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgCompressor");
+    private static final ClassName ARG_BINDING_CLASS = ClassName.bestGuess("org.seiya.argbinding.ArgBinding");
+    private static final ClassName LAZY_ARG_CLASS = ClassName.bestGuess("org.seiya.argbinding.LazyArg");
+    private static final ClassName SHARED_ARGS_CLASS = ClassName.bestGuess("org.seiya.argbinding.SharedArgs");
 
     private TypeMirror activityType;
     private TypeMirror fragmentType;
@@ -103,6 +153,16 @@ public class ArgBindingProcessor extends AbstractProcessor {
     private Map<TypeElement, TypeElement> targetParents = new HashMap<>();
     // the method type in bundle
     private Map<String, String> bundleMethodTypes = new HashMap<>();
+    // the type and its adapter
+    private Map<String, ClassName> typeAdapters = new HashMap<>();
+    // the route path and its target
+    private Map<String, TypeElement> routePaths = new TreeMap<>();
+    // the caller and its result methods
+    private Map<TypeElement, List<ExecutableElement>> resultMethods = new LinkedHashMap<>();
+    // whether to generate table binders
+    private boolean tableMode;
+    // the target and whether its binder is a table binder
+    private Map<TypeElement, Boolean> tableTargets = new HashMap<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnvironment) {
@@ -118,12 +178,25 @@ public class ArgBindingProcessor extends AbstractProcessor {
         serviceType = elementsUtil.getTypeElement(SERVICE).asType();
         parcelableType = elementsUtil.getTypeElement(PARCELABLE).asType();
         serializableType = elementsUtil.getTypeElement(SERIALIZABLE).asType();
+
+        String mode = processingEnv.getOptions().get(MODE_OPTION);
+        if (mode != null && !MODE_CODEGEN.equals(mode) && !MODE_TABLE.equals(mode)) {
+            ProcessorUtils.error("[%s] is not a valid binder mode, it must be %s or %s.", mode, MODE_CODEGEN, MODE_TABLE);
+        }
+        tableMode = MODE_TABLE.equals(mode);
+
+        // built-in adapters
+        typeAdapters.put("java.util.Date", ClassName.get("org.seiya.argbinding", "DateTypeAdapter"));
+        typeAdapters.put("java.util.UUID", ClassName.get("org.seiya.argbinding", "UUIDTypeAdapter"));
+        typeAdapters.put("java.math.BigDecimal", ClassName.get("org.seiya.argbinding", "BigDecimalTypeAdapter"));
     }
 
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         Set<String> types = new LinkedHashSet<>();
+        types.add(ArgAdapter.class.getCanonicalName());
         types.add(BindArg.class.getCanonicalName());
+        types.add(BindResult.class.getCanonicalName());
         types.add(BindTarget.class.getCanonicalName());
         return types;
     }
@@ -136,10 +209,14 @@ public class ArgBindingProcessor extends AbstractProcessor {
         logger.info("BindArg processor begin.");
 
         try {
+            findAdapter(roundEnvironment.getElementsAnnotatedWith(ArgAdapter.class));
             findField(roundEnvironment.getElementsAnnotatedWith(BindArg.class));
             findTarget(roundEnvironment.getElementsAnnotatedWith(BindTarget.class));
+            findResult(roundEnvironment.getElementsAnnotatedWith(BindResult.class));
             findTargetParent();
             generateBuilderAndBinder();
+            generateRoutes();
+            generateResultDispatchers();
         } catch (Exception e) {
             logger.error(e);
         }
@@ -147,6 +224,52 @@ public class ArgBindingProcessor extends AbstractProcessor {
         return true;
     }
 
+    /**
+     * Find the type adapter with annotation {@link ArgAdapter}.
+     */
+    private void findAdapter(Set<? extends Element> elements) {
+        if (ProcessorUtils.isEmpty(elements)) {
+            return;
+        }
+        for (Element element : elements) {
+            TypeElement adapterElement = (TypeElement) element;
+            checkAdapter(adapterElement);
+            TypeMirror adaptedType = null;
+            for (TypeMirror interfaceType : adapterElement.getInterfaces()) {
+                DeclaredType declaredType = (DeclaredType) interfaceType;
+                if (ARG_TYPE_ADAPTER.equals(((TypeElement) declaredType.asElement()).getQualifiedName().toString())
+                        && declaredType.getTypeArguments().size() == 1) {
+                    adaptedType = declaredType.getTypeArguments().get(0);
+                }
+            }
+            if (adaptedType == null || adaptedType.getKind() != TypeKind.DECLARED) {
+                ProcessorUtils.error("The adapter must implement ArgTypeAdapter<T> directly.[%s]", adapterElement.getQualifiedName());
+            }
+            typeAdapters.put(typeUtil.erasure(adaptedType).toString(), ClassName.get(adapterElement));
+        }
+    }
+
+    /**
+     * Check whether the adapter is legal.
+     */
+    private void checkAdapter(TypeElement adapterElement) {
+        Set<Modifier> modifiers = adapterElement.getModifiers();
+        if (adapterElement.getKind() != ElementKind.CLASS || !modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+            ProcessorUtils.error("The adapter must be public and not abstract class.[%s]", adapterElement.getQualifiedName());
+        }
+        if (adapterElement.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            ProcessorUtils.error("The adapter must be top level or static class.[%s]", adapterElement.getQualifiedName());
+        }
+        for (Element enclosedElement : adapterElement.getEnclosedElements()) {
+            if (enclosedElement.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) enclosedElement).getParameters().isEmpty()
+                    && enclosedElement.getModifiers().contains(Modifier.PUBLIC)) {
+                return;
+            }
+        }
+        ProcessorUtils.error("The adapter must have a public empty constructor.[%s]", adapterElement.getQualifiedName());
+    }
+
     /**
      * Find the field with annotation {@link BindArg}.
      */
@@ -172,7 +295,127 @@ public class ArgBindingProcessor extends AbstractProcessor {
             if (!targetAndFields.containsKey(enclosingElement)) {
                 putFieldElement((TypeElement) enclosingElement, null);
             }
+            String path = enclosingElement.getAnnotation(BindTarget.class).path();
+            if (!ProcessorUtils.isEmpty(path)) {
+                putRoutePath((TypeElement) enclosingElement, path);
+            }
+        }
+    }
+
+    /**
+     * Find the result class and the result method with annotation {@link BindResult}.
+     */
+    private void findResult(Set<? extends Element> elements) {
+        if (ProcessorUtils.isEmpty(elements)) {
+            return;
+        }
+        for (Element element : elements) {
+            if (element.getKind() != ElementKind.METHOD) {
+                if (!targetAndFields.containsKey(element)) {
+                    putFieldElement((TypeElement) element, null);
+                }
+                continue;
+            }
+            ExecutableElement methodElement = (ExecutableElement) element;
+            TypeElement callerElement = (TypeElement) methodElement.getEnclosingElement();
+            checkResultMethod(callerElement, methodElement);
+            List<ExecutableElement> methods = resultMethods.get(callerElement);
+            if (methods == null) {
+                methods = new ArrayList<>();
+                resultMethods.put(callerElement, methods);
+            }
+            int requestCode = methodElement.getAnnotation(BindResult.class).requestCode();
+            for (ExecutableElement existElement : methods) {
+                if (existElement.getAnnotation(BindResult.class).requestCode() == requestCode) {
+                    ProcessorUtils.error("The request code[%s] already exists,[%s.%s] and [%s.%s] conflicts.", requestCode,
+                            callerElement.getQualifiedName(), methodElement.getSimpleName(), callerElement.getQualifiedName(), existElement.getSimpleName());
+                }
+            }
+            methods.add(methodElement);
+        }
+    }
+
+    /**
+     * Check whether the result method is legal.
+     */
+    private void checkResultMethod(TypeElement callerElement, ExecutableElement methodElement) {
+        Set<Modifier> modifiers = methodElement.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+            ProcessorUtils.error("The result method must not be private or static.[%s.%s]", callerElement.getQualifiedName(), methodElement.getSimpleName());
+        }
+        if (callerElement.getNestingKind() != NestingKind.TOP_LEVEL) {
+            ProcessorUtils.error("The result method must be in top level class.[%s.%s]", callerElement.getQualifiedName(), methodElement.getSimpleName());
+        }
+        List<? extends VariableElement> parameters = methodElement.getParameters();
+        boolean legal;
+        if (parameters.size() == 2) {
+            legal = parameters.get(0).asType().getKind() == TypeKind.INT && getResultElement(parameters.get(1)) != null;
+        } else if (parameters.size() == 1) {
+            legal = parameters.get(0).asType().getKind() == TypeKind.INT || getResultElement(parameters.get(0)) != null;
+        } else {
+            legal = parameters.isEmpty();
+        }
+        if (!legal) {
+            ProcessorUtils.error("The result method parameters must be (int resultCode, Result result), (Result result), (int resultCode) or empty.[%s.%s]",
+                    callerElement.getQualifiedName(), methodElement.getSimpleName());
+        }
+        for (VariableElement parameter : parameters) {
+            TypeElement resultElement = getResultElement(parameter);
+            if (resultElement != null && resultElement.getModifiers().contains(Modifier.ABSTRACT)) {
+                ProcessorUtils.error("The result class must not be abstract.[%s]", resultElement.getQualifiedName());
+            }
+        }
+    }
+
+    /**
+     * Get the result class of the parameter, null if it's not annotated with {@link BindResult}.
+     */
+    private TypeElement getResultElement(VariableElement parameter) {
+        TypeMirror typeMirror = parameter.asType();
+        if (typeMirror.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) typeMirror).asElement();
+        return isResult(typeElement) ? typeElement : null;
+    }
+
+    /**
+     * Put the route path of the target, the path is normalized to "/a/b".
+     */
+    private void putRoutePath(TypeElement targetElement, String path) {
+        if (!isActivity(targetElement) || targetElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            ProcessorUtils.error("Only not abstract activity can have path.[%s]", targetElement.getQualifiedName());
+        }
+        StringBuilder normalizedPath = new StringBuilder();
+        for (String segment : getPathSegments(targetElement, path)) {
+            normalizedPath.append('/').append(segment);
+        }
+        if (normalizedPath.length() == 0) {
+            normalizedPath.append('/');
+        }
+        TypeElement existElement = routePaths.get(normalizedPath.toString());
+        if (existElement != null) {
+            ProcessorUtils.error("The path[%s] already exists,[%s] and [%s] conflicts.", normalizedPath,
+                    targetElement.getQualifiedName(), existElement.getQualifiedName());
+        }
+        routePaths.put(normalizedPath.toString(), targetElement);
+    }
+
+    /**
+     * Get the segments of the path, the empty segments are ignored.
+     */
+    private List<String> getPathSegments(TypeElement targetElement, String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.contains("?") || segment.contains("#") || segment.contains("{")) {
+                ProcessorUtils.error("The path[%s] must not contain query, fragment or placeholder.[%s]", path, targetElement.getQualifiedName());
+            }
+            segments.add(segment);
         }
+        return segments;
     }
 
     private List<Element> putFieldElement(TypeElement targetElement, Element fieldElement) {
@@ -193,13 +436,28 @@ public class ArgBindingProcessor extends AbstractProcessor {
      */
     private void checkField(TypeElement targetElement, Element fieldElement) {
         Set<Modifier> modifiers = fieldElement.getModifiers();
-        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) ||
+        if (isLazyArg(fieldElement)) {
+            String name = fieldElement.getSimpleName().toString();
+            if (name.startsWith("set") && ((ExecutableElement) fieldElement).getParameters().size() == 1) {
+                ProcessorUtils.error("@BindArg on setters is not supported, annotate the field, or use @BindTarget(generateArgs = true) for final args.[%s.%s]",
+                        targetElement.getQualifiedName(), fieldElement.getSimpleName());
+            }
+            boolean isGetter = (name.startsWith("get") && name.length() > 3)
+                    || (name.startsWith("is") && getArgType(fieldElement).getKind() == TypeKind.BOOLEAN);
+            if (modifiers.contains(Modifier.STATIC) || !isGetter || !((ExecutableElement) fieldElement).getParameters().isEmpty()) {
+                ProcessorUtils.error("The bind method must be the getter of a property, e.g. @get:BindArg val name: String by args.name().[%s.%s]",
+                        targetElement.getQualifiedName(), fieldElement.getSimpleName());
+            }
+        } else if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) ||
                 modifiers.contains(Modifier.FINAL)) {
             ProcessorUtils.error("The bind field must not be private or static or final.[%s.%s]", targetElement.getQualifiedName(), fieldElement.getSimpleName());
         }
         String type = getBundleMethodType(fieldElement);
-        if (type == null) {
-            ProcessorUtils.error("The type[%s] is not support.[%s.%s]", fieldElement.asType(), targetElement.getQualifiedName(), fieldElement.getSimpleName());
+        if (type == null && getTypeAdapter(fieldElement) == null && getPackedElementType(fieldElement) == null) {
+            ProcessorUtils.error("The type[%s] is not support.[%s.%s]", getArgType(fieldElement), targetElement.getQualifiedName(), fieldElement.getSimpleName());
+        }
+        if (isCompressed(fieldElement) && !("String".equals(type) || "ByteArray".equals(type))) {
+            ProcessorUtils.error("Only String and byte[] can be compressed.[%s.%s]", targetElement.getQualifiedName(), fieldElement.getSimpleName());
         }
     }
 
@@ -239,7 +497,515 @@ public class ArgBindingProcessor extends AbstractProcessor {
             TypeElement target = entry.getKey();
             List<Element> fields = entry.getValue();
             generateBuilder(target, getSuperFields(target, fields));
-            generateBinder(target, fields);
+            List<Element> boundFields = getBoundFields(fields);
+            generateBinder(target, boundFields);
+            BindTarget targetConfig = target.getAnnotation(BindTarget.class);
+            if (targetConfig != null && targetConfig.generateArgs()) {
+                generateArgs(target, getSuperFields(target, fields));
+            }
+            if (boundFields.size() != fields.size()) {
+                generateLazyArgs(target, getSuperFields(target, fields));
+            }
+        }
+    }
+
+    /**
+     * Generate the immutable args of the target, the args are read once by {@code from(Bundle)} in the same
+     * way as the binder and injected to the constructor.
+     */
+    private void generateArgs(TypeElement targetElement, List<Element> fields) throws IOException {
+        ClassName argsTypeName = ClassName.bestGuess(targetElement.getQualifiedName() + CommonConstants.ARGS_NAME_SUFFIX);
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(argsTypeName)
+                .addJavadoc("The immutable args of {@link $N}, the values are not copied, don't modify the arrays and collections.\n",
+                        targetElement.getQualifiedName())
+                .addModifiers(Modifier.FINAL);
+        if (targetElement.getModifiers().contains(Modifier.PUBLIC)) {
+            typeBuilder.addModifiers(PUBLIC);
+        }
+
+        MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC);
+        MethodSpec.Builder fromMethodBuilder = MethodSpec.methodBuilder("from")
+                .addJavadoc("Read the args, the absent args are the default values of the types.\n")
+                .addModifiers(PUBLIC, Modifier.STATIC)
+                .returns(argsTypeName)
+                .addParameter(BUNDLE_CLASS, "args")
+                .addStatement("args = $T.expand(args)", SHARED_ARGS_CLASS);
+        CodeBlock.Builder argumentsBuilder = CodeBlock.builder();
+        CodeBlock.Builder requiredCodeBuilder = CodeBlock.builder();
+        CodeBlock.Builder bindCodeBuilder = CodeBlock.builder();
+        Map<ClassName, String> adapterFields = new LinkedHashMap<>();
+        Map<ClassName, String> enumLookups = new LinkedHashMap<>();
+        boolean hasSchemaCheck = false;
+        for (int i = 0; i < fields.size(); i++) {
+            Element fieldElement = fields.get(i);
+            TypeName typeName = TypeName.get(getArgType(fieldElement));
+            String fieldName = getArgName(fieldElement);
+            String fieldAlias = getFieldAlias(fieldElement);
+            String localName = fieldName + "Arg";
+
+            typeBuilder.addField(typeName, fieldAlias, Modifier.PRIVATE, Modifier.FINAL);
+            constructorBuilder.addParameter(typeName, fieldAlias)
+                    .addStatement("this.$N = $N", fieldAlias, fieldAlias);
+            typeBuilder.addMethod(MethodSpec.methodBuilder("get" + ProcessorUtils.toFirstLetterUpperCase(fieldAlias))
+                    .addJavadoc("@see $N#$N\n", ((TypeElement) fieldElement.getEnclosingElement()).getQualifiedName(), fieldName)
+                    .addModifiers(PUBLIC)
+                    .returns(typeName)
+                    .addStatement("return $N", fieldAlias)
+                    .build());
+
+            if (isSchemaChecked(fieldElement)) {
+                hasSchemaCheck = true;
+            }
+            if (fieldElement.getAnnotation(BindArg.class).required()) {
+                requiredCodeBuilder.beginControlFlow("if (args.get($S) == null)", fieldAlias)
+                        .addStatement("emptyFields = emptyFields == null ? new $T<$T>() : emptyFields", ArrayList.class, String.class)
+                        .addStatement("emptyFields.add($S)", fieldAlias)
+                        .endControlFlow();
+            }
+            bindCodeBuilder.addStatement("$T $N = $L", typeName, localName, getDefaultValue(typeName))
+                    .add(getBindCode(fieldElement, CodeBlock.of("$N", localName), adapterFields, enumLookups));
+            argumentsBuilder.add(i == 0 ? "$N" : ", $N", localName);
+        }
+
+        CodeBlock requiredCode = requiredCodeBuilder.build();
+        if (!requiredCode.isEmpty()) {
+            fromMethodBuilder.beginControlFlow("if ($T.get().isCheckRequiredArg())", ARG_BINDING_CLASS)
+                    .beginControlFlow("if (args == null)")
+                    .addStatement("throw new RuntimeException(\"args == null and has field is required in $N\")", targetElement.getQualifiedName())
+                    .endControlFlow()
+                    .addStatement("$T emptyFields = null", ParameterizedTypeName.get(List.class, String.class))
+                    .addCode(requiredCode)
+                    .beginControlFlow("if (emptyFields != null)")
+                    .addStatement("throw new RuntimeException(\"The field \" + emptyFields + \" is required in $N\")", targetElement.getQualifiedName())
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+        fromMethodBuilder.beginControlFlow("if (args == null)")
+                .addStatement("args = $T.EMPTY", BUNDLE_CLASS)
+                .endControlFlow();
+        if (hasSchemaCheck) {
+            fromMethodBuilder.addComment("the args from an old schema need type checking")
+                    .addStatement("boolean schemaMatched = args.getInt($S) == $L", CommonConstants.SCHEMA_HASH_KEY, getSchemaHash(fields));
+        }
+        fromMethodBuilder.addCode(bindCodeBuilder.build())
+                .addStatement("return new $T($L)", argsTypeName, argumentsBuilder.build());
+
+        typeBuilder.addMethod(constructorBuilder.build());
+        typeBuilder.addMethod(fromMethodBuilder.build());
+        addAdapterFields(typeBuilder, adapterFields);
+        addEnumLookupMethods(typeBuilder, enumLookups);
+        JavaFile.builder(argsTypeName.packageName(), typeBuilder.build())
+                .addFileComment(GENERATED_FILE_COMMENT)
+                .build()
+                .writeTo(filer);
+    }
+
+    /**
+     * Generate the lazy args of the target with {@link BindArg} getters, each arg has a Kotlin property
+     * delegate which decodes the arg in the same way as the binder on first access.
+     */
+    private void generateLazyArgs(TypeElement targetElement, List<Element> fields) throws IOException {
+        ClassName lazyArgsTypeName = ClassName.bestGuess(targetElement.getQualifiedName() + CommonConstants.LAZY_ARGS_NAME_SUFFIX);
+        ClassName argTypeName = lazyArgsTypeName.nestedClass("Arg");
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(lazyArgsTypeName)
+                .addJavadoc("The lazy args of {@link $N}, e.g. {@code val name: String by args.name()}, declare it before\n",
+                        targetElement.getQualifiedName())
+                .addJavadoc("the delegated properties. The values are not copied, don't modify the arrays and collections.\n")
+                .addModifiers(Modifier.FINAL);
+        if (targetElement.getModifiers().contains(Modifier.PUBLIC)) {
+            typeBuilder.addModifiers(PUBLIC);
+        }
+        typeBuilder.addField(BUNDLE_CLASS, "args", Modifier.PRIVATE, Modifier.FINAL);
+        typeBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("Read the args of the target, the intent extras of activity or the arguments of fragment.\n")
+                .addModifiers(PUBLIC)
+                .addStatement("this.args = null")
+                .build());
+        typeBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addParameter(BUNDLE_CLASS, "args")
+                .addStatement("this.args = args")
+                .build());
+
+        MethodSpec.Builder decodeMethodBuilder = MethodSpec.methodBuilder("decodeArg")
+                .addModifiers(Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(int.class, "id")
+                .addParameter(BUNDLE_CLASS, "args");
+        CodeBlock.Builder decodeCodeBuilder = CodeBlock.builder()
+                .beginControlFlow("switch (id)");
+        Map<ClassName, String> adapterFields = new LinkedHashMap<>();
+        Map<ClassName, String> enumLookups = new LinkedHashMap<>();
+        int schemaHash = getSchemaHash(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            Element fieldElement = fields.get(i);
+            TypeName typeName = TypeName.get(getArgType(fieldElement));
+            String fieldAlias = getFieldAlias(fieldElement);
+            String localName = getArgName(fieldElement) + "Arg";
+
+            typeBuilder.addMethod(MethodSpec.methodBuilder(fieldAlias)
+                    .addJavadoc("@see $N#$N\n", ((TypeElement) fieldElement.getEnclosingElement()).getQualifiedName(), fieldElement.getSimpleName())
+                    .addModifiers(PUBLIC)
+                    .returns(ParameterizedTypeName.get(LAZY_ARG_CLASS, typeName.box()))
+                    .addStatement("return new $T<$T>(args, $L)", argTypeName, typeName.box(), i)
+                    .build());
+
+            decodeCodeBuilder.add("case $L: {\n$>", i);
+            if (fieldElement.getAnnotation(BindArg.class).required()) {
+                decodeCodeBuilder.beginControlFlow("if (args.get($S) == null && $T.get().isCheckRequiredArg())", fieldAlias, ARG_BINDING_CLASS)
+                        .addStatement("throw new RuntimeException(\"The field [$N] is required in $N\")", fieldAlias, targetElement.getQualifiedName())
+                        .endControlFlow();
+            }
+            if (isSchemaChecked(fieldElement)) {
+                // the args from an old schema need type checking
+                decodeCodeBuilder.addStatement("boolean schemaMatched = args.getInt($S) == $L", CommonConstants.SCHEMA_HASH_KEY, schemaHash);
+            }
+            decodeCodeBuilder.addStatement("$T $N = $L", typeName, localName, getDefaultValue(typeName))
+                    .add(getBindCode(fieldElement, CodeBlock.of("$N", localName), adapterFields, enumLookups))
+                    .addStatement("return $N", localName)
+                    .add("$<}\n");
+        }
+        decodeCodeBuilder.add("default:\n")
+                .addStatement("$>throw new $T(\"Unknown arg \" + id)$<", IllegalArgumentException.class)
+                .endControlFlow();
+        typeBuilder.addMethod(decodeMethodBuilder.addCode(decodeCodeBuilder.build()).build());
+
+        TypeVariableName typeVariableName = TypeVariableName.get("T");
+        typeBuilder.addType(TypeSpec.classBuilder(argTypeName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addTypeVariable(typeVariableName)
+                .superclass(ParameterizedTypeName.get(LAZY_ARG_CLASS, typeVariableName))
+                .addField(int.class, "id", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(BUNDLE_CLASS, "args")
+                        .addParameter(int.class, "id")
+                        .addStatement("super(args)")
+                        .addStatement("this.id = id")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("decode")
+                        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .returns(typeVariableName)
+                        .addParameter(BUNDLE_CLASS, "args")
+                        .addStatement("return ($T) decodeArg(id, args)", typeVariableName)
+                        .build())
+                .build());
+        addAdapterFields(typeBuilder, adapterFields);
+        addEnumLookupMethods(typeBuilder, enumLookups);
+        JavaFile.builder(lazyArgsTypeName.packageName(), typeBuilder.build())
+                .addFileComment(GENERATED_FILE_COMMENT)
+                .build()
+                .writeTo(filer);
+    }
+
+    /**
+     * Get the default value of the type, such as {@code 0}, {@code false} and {@code null}.
+     */
+    private CodeBlock getDefaultValue(TypeName typeName) {
+        if (typeName == TypeName.BOOLEAN) {
+            return CodeBlock.of("false");
+        }
+        if (typeName == TypeName.CHAR) {
+            return CodeBlock.of("'\\0'");
+        }
+        if (typeName == TypeName.LONG) {
+            return CodeBlock.of("0L");
+        }
+        if (typeName == TypeName.FLOAT) {
+            return CodeBlock.of("0f");
+        }
+        if (typeName == TypeName.DOUBLE) {
+            return CodeBlock.of("0d");
+        }
+        if (typeName == TypeName.BYTE || typeName == TypeName.SHORT) {
+            return CodeBlock.of("($T) 0", typeName);
+        }
+        if (typeName.isPrimitive()) {
+            return CodeBlock.of("0");
+        }
+        return CodeBlock.of("null");
+    }
+
+    /**
+     * Get the module name from the option {@link #MODULE_OPTION}.
+     */
+    private String getModuleName() {
+        String moduleName = processingEnv.getOptions().get(MODULE_OPTION);
+        if (ProcessorUtils.isEmpty(moduleName)) {
+            moduleName = DEFAULT_MODULE_NAME;
+        }
+        return moduleName;
+    }
+
+    /**
+     * Generate the route table, the paths are compiled into nested switches on the path segments,
+     * so resolving a uri only compares its segments once.
+     */
+    private void generateRoutes() throws IOException {
+        if (routePaths.isEmpty()) {
+            return;
+        }
+        String moduleName = getModuleName();
+        String routesName = CommonConstants.ROUTES_NAME_PREFIX + moduleName;
+        if (!SourceVersion.isIdentifier(routesName)) {
+            ProcessorUtils.error("[%s] is not a valid module name.", moduleName);
+        }
+        ClassName routesTypeName = ClassName.get("org.seiya.argbinding", routesName);
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(routesTypeName)
+                .addJavadoc("The route table of module $L.\n", moduleName)
+                .addModifiers(PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ARG_ROUTE_TABLE_CLASS);
+
+        RouteNode root = new RouteNode();
+        Set<String> methodNames = new HashSet<>();
+        for (Map.Entry<String, TypeElement> entry : routePaths.entrySet()) {
+            RouteNode node = root;
+            for (String segment : getPathSegments(entry.getValue(), entry.getKey())) {
+                RouteNode child = node.children.get(segment);
+                if (child == null) {
+                    child = new RouteNode();
+                    node.children.put(segment, child);
+                }
+                node = child;
+            }
+            node.methodName = addRouteMethod(typeBuilder, entry.getValue(), entry.getKey(), methodNames);
+        }
+
+        MethodSpec.Builder resolveMethodBuilder = MethodSpec.methodBuilder("resolve")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(INTENT_CLASS)
+                .addParameter(ClassName.bestGuess(CONTEXT), "context")
+                .addParameter(URI_CLASS, "uri")
+                .addStatement("$T<$T> segments = uri.getPathSegments()", List.class, String.class)
+                .addStatement("int size = segments.size()")
+                .addCode(getRouteNodeCode(typeBuilder, root, 0, methodNames, new int[]{MAX_ROUTE_NODES_PER_METHOD}));
+        typeBuilder.addMethod(resolveMethodBuilder.build());
+        JavaFile.builder(routesTypeName.packageName(), typeBuilder.build())
+                .addFileComment(GENERATED_FILE_COMMENT)
+                .build()
+                .writeTo(filer);
+    }
+
+    /**
+     * Get the code to match the segments from the depth of the node. The subtrees which don't fit in
+     * the {@code budget} of the current method are moved to their own methods, so a large route table
+     * won't exceed the code size limit of a method.
+     *
+     * @param budget The count of nodes which can still be inlined in the current method.
+     */
+    private CodeBlock getRouteNodeCode(TypeSpec.Builder typeBuilder, RouteNode node, int depth, Set<String> methodNames, int[] budget) {
+        budget[0]--;
+        CodeBlock.Builder codeBuilder = CodeBlock.builder();
+        if (node.children.isEmpty()) {
+            return codeBuilder.addStatement("return size == $L ? $N(context, uri) : null", depth, node.methodName).build();
+        }
+        codeBuilder.beginControlFlow("if (size == $L)", depth);
+        if (node.methodName != null) {
+            codeBuilder.addStatement("return $N(context, uri)", node.methodName);
+        } else {
+            codeBuilder.addStatement("return null");
+        }
+        codeBuilder.endControlFlow()
+                .beginControlFlow("switch (segments.get($L))", depth);
+        for (Map.Entry<String, RouteNode> entry : node.children.entrySet()) {
+            RouteNode child = entry.getValue();
+            codeBuilder.add("case $S:\n", entry.getKey())
+                    .indent();
+            if (!child.children.isEmpty() && child.getNodeCount() > budget[0]) {
+                budget[0]--;
+                String methodName = addRouteNodeMethod(typeBuilder, child, depth + 1, methodNames);
+                codeBuilder.addStatement("return $N(context, uri, segments, size)", methodName);
+            } else {
+                codeBuilder.add(getRouteNodeCode(typeBuilder, child, depth + 1, methodNames, budget));
+            }
+            codeBuilder.unindent();
+        }
+        return codeBuilder.add("default:\n")
+                .indent()
+                .addStatement("return null")
+                .unindent()
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * Add the method to match the segments from the depth of the node.
+     *
+     * @return The method name.
+     */
+    private String addRouteNodeMethod(TypeSpec.Builder typeBuilder, RouteNode node, int depth, Set<String> methodNames) {
+        String methodName = "match";
+        for (int i = 1; !methodNames.add(methodName); i++) {
+            methodName = "match" + i;
+        }
+        typeBuilder.addMethod(MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(INTENT_CLASS)
+                .addParameter(ClassName.bestGuess(CONTEXT), "context")
+                .addParameter(URI_CLASS, "uri")
+                .addParameter(ParameterizedTypeName.get(List.class, String.class), "segments")
+                .addParameter(int.class, "size")
+                .addCode(getRouteNodeCode(typeBuilder, node, depth, methodNames, new int[]{MAX_ROUTE_NODES_PER_METHOD}))
+                .build());
+        return methodName;
+    }
+
+    /**
+     * Add the method to build the intent of the target, the query parameters are parsed to the field
+     * types directly.
+     *
+     * @return The method name.
+     */
+    private String addRouteMethod(TypeSpec.Builder typeBuilder, TypeElement targetElement, String path, Set<String> methodNames) {
+        String methodName = "to" + targetElement.getSimpleName();
+        for (int i = 2; !methodNames.add(methodName); i++) {
+            methodName = "to" + targetElement.getSimpleName() + i;
+        }
+        ClassName builderTypeName = ClassName.bestGuess(targetElement.getQualifiedName() + CommonConstants.BUILDER_NAME_SUFFIX);
+        MethodSpec.Builder routeMethodBuilder = MethodSpec.methodBuilder(methodName)
+                .addJavadoc("Route $S to {@link $T}, null if a required query parameter is missing or invalid.\n", path, ClassName.get(targetElement))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(INTENT_CLASS)
+                .addParameter(ClassName.bestGuess(CONTEXT), "context")
+                .addParameter(URI_CLASS, "uri")
+                .addStatement("$T builder = $T.newBuilder().setContext(context)", builderTypeName, builderTypeName);
+
+        CodeBlock.Builder parseCodeBuilder = CodeBlock.builder();
+        for (Element fieldElement : getSuperFields(targetElement, targetAndFields.get(targetElement))) {
+            CodeBlock valueCode = getQueryValueCode(fieldElement);
+            boolean required = fieldElement.getAnnotation(BindArg.class).required();
+            if (valueCode == null) {
+                if (required) {
+                    ProcessorUtils.error("The required arg of the routed target can't be parsed from the query parameter.[%s.%s]",
+                            targetElement.getQualifiedName(), getArgName(fieldElement));
+                }
+                // the type can't be parsed from string
+                continue;
+            }
+            String fieldAlias = getFieldAlias(fieldElement);
+            parseCodeBuilder.beginControlFlow("if ((value = query.get($S)) != null)", fieldAlias)
+                    .addStatement("builder.set$L($L)", ProcessorUtils.toFirstLetterUpperCase(fieldAlias), valueCode);
+            if (required) {
+                parseCodeBuilder.nextControlFlow("else")
+                        .add("// the required query parameter is missing\n")
+                        .addStatement("return null");
+            }
+            parseCodeBuilder.endControlFlow();
+        }
+        if (!parseCodeBuilder.isEmpty()) {
+            routeMethodBuilder.addStatement("$T query = new $T(uri.getEncodedQuery())", ARG_ROUTE_QUERY_CLASS, ARG_ROUTE_QUERY_CLASS)
+                    .addStatement("$T value", String.class)
+                    .beginControlFlow("try")
+                    .addCode(parseCodeBuilder.build())
+                    .nextControlFlow("catch ($T e)", IllegalArgumentException.class)
+                    .addComment("the query parameter is invalid")
+                    .addStatement("return null")
+                    .endControlFlow();
+        }
+        routeMethodBuilder.addStatement("return builder.build()");
+        typeBuilder.addMethod(routeMethodBuilder.build());
+        return methodName;
+    }
+
+    /**
+     * Get the code to parse the query parameter {@code value} to the field type, there is no boxing for
+     * primitive types.
+     *
+     * @return The code, null if the type can't be parsed from string.
+     */
+    private CodeBlock getQueryValueCode(Element fieldElement) {
+        TypeMirror typeMirror = getArgType(fieldElement);
+        TypeName typeName = TypeName.get(typeMirror);
+        if (typeName.isPrimitive()) {
+            return getPrimitiveParseCode(typeName);
+        }
+        if (typeName.isBoxedPrimitive()) {
+            return CodeBlock.of("$T.valueOf($L)", typeName, getPrimitiveParseCode(typeName.unbox()));
+        }
+        String type = typeMirror.toString();
+        if (STRING.equals(type)) {
+            return CodeBlock.of("value");
+        }
+        if (isEnum(fieldElement)) {
+            return CodeBlock.of("$T.valueOf(value)", typeName);
+        }
+        return null;
+    }
+
+    private CodeBlock getPrimitiveParseCode(TypeName primitiveTypeName) {
+        if (TypeName.CHAR.equals(primitiveTypeName)) {
+            return CodeBlock.of("$T.parseChar(value)", ARG_ROUTE_QUERY_CLASS);
+        }
+        if (TypeName.BOOLEAN.equals(primitiveTypeName)) {
+            return CodeBlock.of("$T.parseBoolean(value)", ARG_ROUTE_QUERY_CLASS);
+        }
+        return CodeBlock.of("$T.parse$L(value)", primitiveTypeName.box(), ProcessorUtils.toFirstLetterUpperCase(primitiveTypeName.toString()));
+    }
+
+    /**
+     * Generate the result dispatcher for each caller, the request code is switched and the result extras
+     * are bound by the generated binder of the result class.
+     */
+    private void generateResultDispatchers() throws IOException {
+        for (Map.Entry<TypeElement, List<ExecutableElement>> entry : resultMethods.entrySet()) {
+            TypeElement callerElement = entry.getKey();
+            ClassName callerTypeName = ClassName.get(callerElement);
+            ClassName dispatcherTypeName = ClassName.bestGuess(callerElement.getQualifiedName() + CommonConstants.RESULT_DISPATCHER_NAME_SUFFIX);
+            TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(dispatcherTypeName)
+                    .addJavadoc("The result dispatcher for {@link $N}.\n", callerElement.getQualifiedName())
+                    .addModifiers(Modifier.FINAL)
+                    .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+            if (callerElement.getModifiers().contains(Modifier.PUBLIC)) {
+                typeBuilder.addModifiers(PUBLIC);
+            }
+
+            MethodSpec.Builder dispatchMethodBuilder = MethodSpec.methodBuilder("dispatch")
+                    .addJavadoc("Dispatch the result to the method with the request code, call it in onActivityResult.\n")
+                    .addJavadoc("\n@return Whether the request code is handled.\n")
+                    .addModifiers(PUBLIC, Modifier.STATIC)
+                    .returns(boolean.class)
+                    .addParameter(callerTypeName, "target")
+                    .addParameter(int.class, "requestCode")
+                    .addParameter(int.class, "resultCode")
+                    .addParameter(INTENT_CLASS, "data")
+                    .beginControlFlow("switch (requestCode)");
+            for (ExecutableElement methodElement : entry.getValue()) {
+                dispatchMethodBuilder.addCode("case $L: {\n", methodElement.getAnnotation(BindResult.class).requestCode())
+                        .addCode("$>");
+                List<String> arguments = new ArrayList<>();
+                for (VariableElement parameter : methodElement.getParameters()) {
+                    TypeElement resultElement = getResultElement(parameter);
+                    if (resultElement == null) {
+                        arguments.add("resultCode");
+                        continue;
+                    }
+                    // the canceled result may have no extras, only check the required args of the ok result
+                    ClassName resultTypeName = ClassName.get(resultElement);
+                    ClassName binderTypeName = ClassName.bestGuess(resultElement.getQualifiedName() + CommonConstants.BINDER_NAME_SUFFIX);
+                    dispatchMethodBuilder.addStatement("$T result = null", resultTypeName)
+                            .addStatement("$T extras = data != null ? data.getExtras() : null", BUNDLE_CLASS)
+                            .beginControlFlow("if (extras != null)")
+                            .addStatement("result = new $T()", resultTypeName)
+                            .addStatement("new $T<$T>().bindArgs(result, extras, resultCode == $T.RESULT_OK)", binderTypeName, resultTypeName, ClassName.bestGuess(ACTIVITY))
+                            .endControlFlow();
+                    arguments.add("result");
+                }
+                dispatchMethodBuilder.addStatement("target.$N($L)", methodElement.getSimpleName(), String.join(", ", arguments))
+                        .addStatement("return true")
+                        .addCode("$<}\n");
+            }
+            dispatchMethodBuilder.addCode("default:\n$>")
+                    .addStatement("return false")
+                    .addCode("$<")
+                    .endControlFlow();
+            typeBuilder.addMethod(dispatchMethodBuilder.build());
+            JavaFile.builder(dispatcherTypeName.packageName(), typeBuilder.build())
+                    .addFileComment(GENERATED_FILE_COMMENT)
+                    .build()
+                    .writeTo(filer);
         }
     }
 
@@ -281,24 +1047,87 @@ public class ArgBindingProcessor extends AbstractProcessor {
             typeBuilder.addModifiers(Modifier.ABSTRACT);
         }
 
+        // add constructor, stamp the schema hash into args
+        MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addCode(getPutArgCode(isContext, "Int", CommonConstants.SCHEMA_HASH_KEY, CodeBlock.of("$L", getSchemaHash(fields))));
+        typeBuilder.addMethod(constructorBuilder.build());
+
+        // add onReset method, stamp the schema hash again
+        MethodSpec.Builder onResetMethodBuilder = MethodSpec.methodBuilder("onReset")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addCode(getPutArgCode(isContext, "Int", CommonConstants.SCHEMA_HASH_KEY, CodeBlock.of("$L", getSchemaHash(fields))));
+        typeBuilder.addMethod(onResetMethodBuilder.build());
+
         if (!isAbstract) { //Activity and not abstract Fragment add newBuilder method
             MethodSpec.Builder newBuilderMethodBuilder = MethodSpec.methodBuilder("newBuilder")
                     .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                     .returns(builderTypeName)
                     .addStatement("return new $T()", builderTypeName);
             typeBuilder.addMethod(newBuilderMethodBuilder.build());
+
+            MethodSpec.Builder fromMethodBuilder = MethodSpec.methodBuilder("from")
+                    .addJavadoc("Create a builder with the args of the template, then set the different args only.\n")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(builderTypeName)
+                    .addParameter(ParameterizedTypeName.get(ARG_TEMPLATE_CLASS, builderTypeName), "template")
+                    .addStatement("return new $T().applyTemplate(template)", builderTypeName);
+            typeBuilder.addMethod(fromMethodBuilder.build());
+
+            // add the pool of builders
+            TypeName poolTypeName = ParameterizedTypeName.get(ARG_BUILDER_POOL_CLASS, builderTypeName);
+            typeBuilder.addField(FieldSpec.builder(poolTypeName, "POOL", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T()", poolTypeName)
+                    .build());
+            MethodSpec.Builder obtainMethodBuilder = MethodSpec.methodBuilder("obtain")
+                    .addJavadoc("Obtain a builder from the pool of current thread, call {@link #recycle()} after build to reuse it.\n")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(builderTypeName)
+                    .addStatement("$T builder = POOL.acquire()", builderTypeName)
+                    .addStatement("return builder != null ? builder : new $T()", builderTypeName);
+            typeBuilder.addMethod(obtainMethodBuilder.build());
+            MethodSpec.Builder recycleMethodBuilder = MethodSpec.methodBuilder("recycle")
+                    .addJavadoc("Reset the builder and put it back to the pool of current thread, don't use it after recycle.\n")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addStatement("POOL.release(reset())");
+            typeBuilder.addMethod(recycleMethodBuilder.build());
         }
 
         // not abstract Fragment add build method
-        if (!isContext && !isAbstract) {
+        if (isFragment(targetElement) && !isAbstract) {
             MethodSpec.Builder builderMethodBuilder = MethodSpec.methodBuilder("build")
                     .addJavadoc("Build the fragment.The fragment must have an empty constructor.\n")
                     .addAnnotation(Override.class)
                     .addModifiers(Modifier.PUBLIC)
                     .returns(targetTypeName)
                     .addStatement("$T fragment = new $T()", targetTypeName, targetTypeName)
-                    .addStatement("fragment.setArguments(args)")
+                    .addStatement("fragment.setArguments(buildArg())")
+                    .addStatement("return fragment");
+            typeBuilder.addMethod(builderMethodBuilder.build());
+
+            MethodSpec.Builder buildCachedMethodBuilder = MethodSpec.methodBuilder("buildCached")
+                    .addJavadoc("Build the fragment, return the cached one if there is a removed fragment with the same args.\n")
+                    .addJavadoc("@see $T\n", ARG_FRAGMENT_CACHE_CLASS)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(targetTypeName)
+                    .addStatement("$T fragment = $T.get().get($T.class, args)", targetTypeName, ARG_FRAGMENT_CACHE_CLASS, targetTypeName)
+                    .beginControlFlow("if (fragment == null)")
+                    .addStatement("fragment = build()")
+                    .addStatement("$T.get().put(fragment, args)", ARG_FRAGMENT_CACHE_CLASS)
+                    .endControlFlow()
                     .addStatement("return fragment");
+            typeBuilder.addMethod(buildCachedMethodBuilder.build());
+        }
+
+        // plain class, e.g. ViewModel or presenter, add build method which returns the args
+        if (isPlain(targetElement) && !isAbstract) {
+            MethodSpec.Builder builderMethodBuilder = MethodSpec.methodBuilder("build")
+                    .addJavadoc("Build the args, bind them to the target by {@code ArgBinding.get().bind(target, args)}.\n")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(BUNDLE_CLASS)
+                    .addStatement("return buildArg()");
             typeBuilder.addMethod(builderMethodBuilder.build());
         }
 
@@ -310,13 +1139,21 @@ public class ArgBindingProcessor extends AbstractProcessor {
                     .returns(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(ClassName.bestGuess(CONTEXT))))
                     .addStatement("return $T.class", targetTypeName);
             typeBuilder.addMethod(getTargetClassBuilder.build());
+
+            typeBuilder.addMethod(MethodSpec.methodBuilder("getTraceSectionName")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(String.class)
+                    .addStatement("return $S", "ArgBuilder.build:" + targetElement.getSimpleName())
+                    .build());
         }
 
         // add set method
+        Map<ClassName, String> adapterFields = new LinkedHashMap<>();
         Map<String, Element> allFiledNames = new HashMap<>(fields.size());
         for (Element fieldElement : fields) {
             BindArg fieldConfig = fieldElement.getAnnotation(BindArg.class);
-            String fieldName = fieldElement.getSimpleName().toString();
+            String fieldName = getArgName(fieldElement);
             String enclosingElementName = ((TypeElement) fieldElement.getEnclosingElement()).getQualifiedName().toString();
 
             String fieldAlias;
@@ -342,9 +1179,24 @@ public class ArgBindingProcessor extends AbstractProcessor {
             MethodSpec.Builder setMethodBuilder = MethodSpec.methodBuilder("set" + ProcessorUtils.toFirstLetterUpperCase(fieldAlias))
                     .addModifiers(Modifier.PUBLIC)
                     .returns(builderTypeName)
-                    .addParameter(TypeName.get(fieldElement.asType()), fieldAlias)
-                    .addStatement("args.put" + getBundleMethodType(fieldElement) + "($S,$N)", fieldAlias, fieldAlias)
-                    .addStatement("return self()");
+                    .addParameter(TypeName.get(getArgType(fieldElement)), fieldAlias);
+            setMethodBuilder.addCode(getPutCode(fieldElement, isContext, CodeBlock.of("$N", fieldAlias), adapterFields));
+            TypeName elementTypeName = getPackedElementType(fieldElement);
+            if (elementTypeName != null) {
+                // add the primitive array set method, there is no boxing
+                TypeName primitiveTypeName = elementTypeName.unbox();
+                String arrayMethodType = ProcessorUtils.toFirstLetterUpperCase(primitiveTypeName.toString()) + "Array";
+                // a distinct name, an overload makes the existing setXxx(null) ambiguous
+                MethodSpec.Builder setArrayMethodBuilder = MethodSpec.methodBuilder("set" + ProcessorUtils.toFirstLetterUpperCase(fieldAlias) + "Array")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(builderTypeName)
+                        .addParameter(ArrayTypeName.of(primitiveTypeName), fieldAlias)
+                        .addCode(getPutArgCode(isContext, arrayMethodType, fieldAlias, CodeBlock.of("$N", fieldAlias)))
+                        .addStatement("return self()")
+                        .addJavadoc("@see $N#$N\n", enclosingElementName, fieldName);
+                typeBuilder.addMethod(setArrayMethodBuilder.build());
+            }
+            setMethodBuilder.addStatement("return self()");
             String docString = elementsUtil.getDocComment(fieldElement);
             if (!ProcessorUtils.isEmpty(docString)) {
                 setMethodBuilder.addJavadoc(docString);
@@ -352,6 +1204,7 @@ public class ArgBindingProcessor extends AbstractProcessor {
             setMethodBuilder.addJavadoc("@see $N#$N\n", enclosingElementName, fieldName);
             typeBuilder.addMethod(setMethodBuilder.build());
         }
+        addAdapterFields(typeBuilder, adapterFields);
         JavaFile.builder(builderTypeName.packageName(), typeBuilder.build())
                 .addFileComment(GENERATED_FILE_COMMENT)
                 .build()
@@ -359,6 +1212,10 @@ public class ArgBindingProcessor extends AbstractProcessor {
     }
 
     private void generateBinder(TypeElement targetElement, List<Element> fields) throws IOException {
+        if (isTableTarget(targetElement)) {
+            generateTableBinder(targetElement, fields);
+            return;
+        }
         ClassName builderTypeName = ClassName.bestGuess(targetElement.getQualifiedName() + CommonConstants.BINDER_NAME_SUFFIX);
         TypeElement superTypeElement = targetParents.get(targetElement);
         ClassName targetTypeName = ClassName.get(targetElement);
@@ -386,48 +1243,152 @@ public class ArgBindingProcessor extends AbstractProcessor {
             bindArgsMethodBuilder.addStatement("super.bindArgs(target, args)");
         }
 
-        // add checkRequiredArg method
-        MethodSpec.Builder requiredMethodBuilder = MethodSpec.methodBuilder("checkRequiredArg")
+        // add restoreSavedArgs method, decode as bindArgs but restore the fields saved as null
+        MethodSpec.Builder restoreArgsMethodBuilder = MethodSpec.methodBuilder("restoreSavedArgs")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
+                .addParameter(TypeVariableName.get("T"), "target")
                 .addParameter(BUNDLE_CLASS, "args");
         if (superTypeElement != null) {
-            requiredMethodBuilder.addStatement("super.checkRequiredArg(args)");
+            restoreArgsMethodBuilder.addStatement("super.restoreSavedArgs(target, args)");
         }
 
-        boolean hasRequiredField = false;
-        for (Element fieldElement : fields) {
-            TypeName typeName = TypeName.get(fieldElement.asType());
-            BindArg fieldConfig = fieldElement.getAnnotation(BindArg.class);
-            String fieldName = fieldElement.getSimpleName().toString();
-            String fieldAlias;
-            if (!ProcessorUtils.isEmpty(fieldConfig.value())) {
-                fieldAlias = fieldConfig.value();
-            } else {
-                fieldAlias = fieldName;
-            }
-
-            // add bindArgs method code
-            if (typeName.isPrimitive() || typeName.toString().equals(STRING)) {
-                bindArgsMethodBuilder.addStatement("target.$N = args.get" + getBundleMethodType(fieldElement) + "($S,target.$N)", fieldName, fieldAlias, fieldName);
-            } else if (isParcelableArray(fieldElement.asType())) {//Parcelable[]
-                TypeName parcelableArrayName = ArrayTypeName.of(PARCELABLE_CLASS);
-                bindArgsMethodBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
-                        .addStatement("$T $N = ($T) args.getSerializable($S)", parcelableArrayName, fieldName, parcelableArrayName, fieldAlias)
-                        .beginControlFlow("if ($N == null)", fieldName)
-                        .addStatement("target.$N = null", fieldName)
-                        .endControlFlow()
-                        .beginControlFlow("else")
-                        .addStatement("target.$N = new $T[$N.length]", fieldName, ((ArrayType) fieldElement.asType()).getComponentType(), fieldName)
-                        .addStatement("System.arraycopy($N, 0, target.$N, 0, $N.length)", fieldName, fieldName, fieldName)
-                        .endControlFlow()
-                        .endControlFlow();
+        // add rebindArgs method, the fields after the 63rd share the last bit
+        MethodSpec.Builder rebindArgsMethodBuilder = MethodSpec.methodBuilder("rebindArgs")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(long.class)
+                .addParameter(TypeVariableName.get("T"), "target")
+                .addParameter(BUNDLE_CLASS, "args");
+        if (superTypeElement != null) {
+            rebindArgsMethodBuilder.addStatement("long changed = super.rebindArgs(target, args)");
+        } else {
+            rebindArgsMethodBuilder.addStatement("long changed = 0");
+        }
+        List<Element> allFields = getBoundFields(getSuperFields(targetElement, fields));
+
+        // add diffArgs method, the field is changed if it differs from its decoded arg or the arg is absent
+        MethodSpec.Builder diffArgsMethodBuilder = MethodSpec.methodBuilder("diffArgs")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(long.class)
+                .addParameter(TypeVariableName.get("T"), "target")
+                .addParameter(BUNDLE_CLASS, "args");
+        // add saveArgs method, put the changed fields in the same way as the builder
+        MethodSpec.Builder saveArgsMethodBuilder = MethodSpec.methodBuilder("saveArgs")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(TypeVariableName.get("T"), "target")
+                .addParameter(long.class, "changed")
+                .addParameter(BUNDLE_CLASS, "args");
+        if (superTypeElement != null) {
+            diffArgsMethodBuilder.addStatement("long changed = super.diffArgs(target, args)");
+            saveArgsMethodBuilder.addStatement("super.saveArgs(target, changed, args)");
+        } else {
+            diffArgsMethodBuilder.addStatement("long changed = 0");
+        }
+
+        // add checkRequiredArg method
+        MethodSpec.Builder requiredMethodBuilder = MethodSpec.methodBuilder("checkRequiredArg")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(BUNDLE_CLASS, "args");
+        if (superTypeElement != null) {
+            requiredMethodBuilder.addStatement("super.checkRequiredArg(args)");
+        }
+
+        // the args from an old schema need type checking
+        for (Element fieldElement : fields) {
+            if (isSchemaChecked(fieldElement)) {
+                bindArgsMethodBuilder.addStatement("boolean schemaMatched = isSchemaMatched(args)");
+                restoreArgsMethodBuilder.addStatement("boolean schemaMatched = isSchemaMatched(args)");
+                rebindArgsMethodBuilder.addStatement("boolean schemaMatched = isSchemaMatched(args)");
+                diffArgsMethodBuilder.addStatement("boolean schemaMatched = isSchemaMatched(args)");
+                break;
+            }
+        }
+
+        Map<ClassName, String> adapterFields = new LinkedHashMap<>();
+        Map<ClassName, String> enumLookups = new LinkedHashMap<>();
+        boolean hasRequiredField = false;
+        for (Element fieldElement : fields) {
+            TypeName typeName = TypeName.get(getArgType(fieldElement));
+            BindArg fieldConfig = fieldElement.getAnnotation(BindArg.class);
+            String fieldName = getArgName(fieldElement);
+            String fieldAlias = getFieldAlias(fieldElement);
+
+            // the decode code is shared by bindArgs, rebindArgs and diffArgs, a plain bundle getter is
+            // inlined and the others are decoded by a private method, the current value is the default
+            CodeBlock decodeCode;
+            if (isBundleDefaultType(fieldElement) && getTypeAdapter(fieldElement) == null && !isCompressed(fieldElement)
+                    && getPackedElementType(fieldElement) == null) {
+                decodeCode = CodeBlock.of("args.get$L($S, target.$N)", getBundleMethodType(fieldElement), fieldAlias, fieldName);
+            } else {
+                String decodeMethodName = "decode" + ProcessorUtils.toFirstLetterUpperCase(fieldName);
+                String currentName = fieldName + "Current";
+                MethodSpec.Builder decodeMethodBuilder = MethodSpec.methodBuilder(decodeMethodName)
+                        .addJavadoc("Decode {@link $N#$N}, the current value if the arg is absent or invalid.\n",
+                                targetElement.getQualifiedName(), fieldName)
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(typeName)
+                        .addParameter(BUNDLE_CLASS, "args");
+                if (typeName instanceof ParameterizedTypeName) {
+                    decodeMethodBuilder.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build());
+                }
+                if (isSchemaChecked(fieldElement)) {
+                    decodeMethodBuilder.addParameter(boolean.class, "schemaMatched");
+                    decodeCode = CodeBlock.of("$N(args, schemaMatched, target.$N)", decodeMethodName, fieldName);
+                } else {
+                    decodeCode = CodeBlock.of("$N(args, target.$N)", decodeMethodName, fieldName);
+                }
+                typeBuilder.addMethod(decodeMethodBuilder.addParameter(typeName, currentName)
+                        .addCode(getBindCode(fieldElement, CodeBlock.of("$N", currentName), adapterFields, enumLookups))
+                        .addStatement("return $N", currentName)
+                        .build());
+            }
+
+            // add bindArgs method code
+            bindArgsMethodBuilder.addStatement("target.$N = $L", fieldName, decodeCode);
+
+            // add restoreSavedArgs method code, bind keeps the value of the field for a null arg
+            if (typeName.isPrimitive()) {
+                restoreArgsMethodBuilder.addStatement("target.$N = $L", fieldName, decodeCode);
             } else {
-                bindArgsMethodBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
-                        .addStatement("target.$N = ($T)args.get" + getBundleMethodType(fieldElement) + "($S)", fieldName, typeName, fieldAlias)
+                restoreArgsMethodBuilder.beginControlFlow("if (args.get($S) == null && args.containsKey($S))", fieldAlias, fieldAlias)
+                        .addStatement("target.$N = null", fieldName)
+                        .nextControlFlow("else")
+                        .addStatement("target.$N = $L", fieldName, decodeCode)
                         .endControlFlow();
             }
 
+            // add rebindArgs method code, keep the old value and compare after bind
+            String oldName = fieldName + "Old";
+            rebindArgsMethodBuilder.addStatement("$T $N = target.$N", typeName, oldName, fieldName)
+                    .addStatement("target.$N = $L", fieldName, decodeCode)
+                    .beginControlFlow("if ($L)", getChangedCondition(fieldElement, oldName))
+                    .addStatement("changed |= $N", getChangedFieldName(fieldElement))
+                    .endControlFlow();
+
+            // add diffArgs and saveArgs method code
+            String boundName = fieldName + "Bound";
+            diffArgsMethodBuilder.beginControlFlow("if (!args.containsKey($S))", fieldAlias)
+                    .addStatement("changed |= $N", getChangedFieldName(fieldElement))
+                    .nextControlFlow("else")
+                    .addStatement("$T $N = $L", typeName, boundName, decodeCode)
+                    .beginControlFlow("if ($L)", getChangedCondition(fieldElement, boundName))
+                    .addStatement("changed |= $N", getChangedFieldName(fieldElement))
+                    .endControlFlow()
+                    .endControlFlow();
+            saveArgsMethodBuilder.beginControlFlow("if ((changed & $N) != 0)", getChangedFieldName(fieldElement))
+                    .addCode(getPutCode(fieldElement, false, CodeBlock.of("target.$N", fieldName), adapterFields))
+                    .endControlFlow();
+
+            int fieldIndex = allFields.indexOf(fieldElement);
+            typeBuilder.addField(FieldSpec.builder(long.class, getChangedFieldName(fieldElement), PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("The changed bit of {@link $N#$N} returned by rebind.\n", targetElement.getQualifiedName(), fieldName)
+                    .initializer("1L << $L", Math.min(fieldIndex, Long.SIZE - 1))
+                    .build());
+
             // add checkRequiredArg method code
             if (fieldConfig.required()) {
                 if (!hasRequiredField) {
@@ -435,7 +1396,7 @@ public class ArgBindingProcessor extends AbstractProcessor {
                     requiredMethodBuilder.beginControlFlow("if (args == null)")
                             .addStatement("throw new RuntimeException(\"args == null and has field is required in $T\")", targetTypeName)
                             .endControlFlow()
-                            .addStatement("$T emptyFields = new $T<>()", ParameterizedTypeName.get(List.class, String.class), ArrayList.class);
+                            .addStatement("$T emptyFields = null", ParameterizedTypeName.get(List.class, String.class));
                 }
 
                 String fieldWithAlias;
@@ -445,28 +1406,463 @@ public class ArgBindingProcessor extends AbstractProcessor {
                     fieldWithAlias = fieldName + "[" + fieldAlias + "]";
                 }
                 requiredMethodBuilder.beginControlFlow("if (args.get($S) == null)", fieldAlias)
-                        .addStatement("emptyFields.add($S)", fieldWithAlias)
+                        .addStatement("emptyFields = addEmptyField(emptyFields, $S)", fieldWithAlias)
                         .endControlFlow();
             }
         }
         if (hasRequiredField) {
-            requiredMethodBuilder.beginControlFlow("if (!emptyFields.isEmpty())")
+            requiredMethodBuilder.beginControlFlow("if (emptyFields != null)")
                     .addStatement("throw new RuntimeException(\"The field \" + emptyFields + \" is required in $N\")", targetElement.getQualifiedName())
                     .endControlFlow();
         }
 
+        // add getSchemaHash method
+        MethodSpec.Builder schemaHashMethodBuilder = MethodSpec.methodBuilder("getSchemaHash")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(int.class)
+                .addStatement("return $L", getSchemaHash(getSuperFields(targetElement, targetAndFields.get(targetElement))));
+        // add getFieldCount method
+        MethodSpec.Builder fieldCountMethodBuilder = MethodSpec.methodBuilder("getFieldCount")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(int.class)
+                .addStatement("return $L", allFields.size());
+
+        rebindArgsMethodBuilder.addStatement("return changed");
+        diffArgsMethodBuilder.addStatement("return changed");
+
         typeBuilder.addMethod(bindArgsMethodBuilder.build());
+        typeBuilder.addMethod(restoreArgsMethodBuilder.build());
+        typeBuilder.addMethod(rebindArgsMethodBuilder.build());
+        typeBuilder.addMethod(diffArgsMethodBuilder.build());
+        typeBuilder.addMethod(saveArgsMethodBuilder.build());
         typeBuilder.addMethod(requiredMethodBuilder.build());
+        typeBuilder.addMethod(schemaHashMethodBuilder.build());
+        typeBuilder.addMethod(fieldCountMethodBuilder.build());
+        addAdapterFields(typeBuilder, adapterFields);
+        addEnumLookupMethods(typeBuilder, enumLookups);
         JavaFile.builder(builderTypeName.packageName(), typeBuilder.build())
                 .addFileComment(GENERATED_FILE_COMMENT)
                 .build()
                 .writeTo(filer);
     }
 
+    /**
+     * Whether to generate the table binder for the target. The fields with adapter, compression, packing
+     * or enum type need the generated code, so the target and its sub targets use the default mode.
+     */
+    private boolean isTableTarget(TypeElement targetElement) {
+        if (!tableMode) {
+            return false;
+        }
+        Boolean isTable = tableTargets.get(targetElement);
+        if (isTable == null) {
+            TypeElement superElement = targetParents.get(targetElement);
+            isTable = superElement == null || isTableTarget(superElement);
+            for (Element fieldElement : getBoundFields(targetAndFields.get(targetElement))) {
+                if (getTableType(fieldElement) == null) {
+                    isTable = false;
+                    break;
+                }
+            }
+            tableTargets.put(targetElement, isTable);
+        }
+        return isTable;
+    }
+
+    /**
+     * Get the type constant of the field in TableArgBinder.
+     *
+     * @return The type, null if the field isn't supported by the table binder.
+     */
+    private String getTableType(Element fieldElement) {
+        if (getTypeAdapter(fieldElement) != null || isCompressed(fieldElement) || getPackedElementType(fieldElement) != null
+                || isEnum(fieldElement)) {
+            return null;
+        }
+        TypeName typeName = TypeName.get(getArgType(fieldElement));
+        if (typeName.isBoxedPrimitive()) {
+            return "TYPE_" + ProcessorUtils.toConstantName(typeName.unbox().toString()) + " | BOXED";
+        }
+        String methodType = getBundleMethodType(fieldElement);
+        if (methodType == null) {
+            return null;
+        }
+        return "TYPE_" + ProcessorUtils.toConstantName(methodType);
+    }
+
+    /**
+     * Generate the binder of the table mode, it has the keys and types of all the fields and the accessors
+     * of the fields declared in the target, the args are bound by TableArgBinder.
+     */
+    private void generateTableBinder(TypeElement targetElement, List<Element> fields) throws IOException {
+        ClassName binderTypeName = ClassName.bestGuess(targetElement.getQualifiedName() + CommonConstants.BINDER_NAME_SUFFIX);
+        TypeElement superTypeElement = targetParents.get(targetElement);
+        ClassName targetTypeName = ClassName.get(targetElement);
+        TypeName superTypeName;
+        if (superTypeElement != null) {
+            superTypeName = getSuperBinderTypeName(superTypeElement);
+        } else {
+            superTypeName = ParameterizedTypeName.get(TABLE_ARG_BINDER_CLASS, TypeVariableName.get("T"));
+        }
+
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(binderTypeName)
+                .addJavadoc("The ArgBinder for {@link $N}, the args are bound by the table.\n", targetElement.getQualifiedName())
+                .addTypeVariable(TypeVariableName.get("T", targetTypeName))
+                .superclass(superTypeName);
+        if (targetElement.getModifiers().contains(Modifier.PUBLIC)) {
+            typeBuilder.addModifiers(PUBLIC);
+        }
+        if (targetElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            typeBuilder.addModifiers(Modifier.ABSTRACT);
+        }
+
+        List<Element> allFields = getBoundFields(getSuperFields(targetElement, fields));
+        CodeBlock.Builder keysBuilder = CodeBlock.builder();
+        CodeBlock.Builder typesBuilder = CodeBlock.builder();
+        for (int i = 0; i < allFields.size(); i++) {
+            Element fieldElement = allFields.get(i);
+            String separator = i == 0 ? "" : ", ";
+            keysBuilder.add("$L$S", separator, getFieldAlias(fieldElement));
+            String type = getTableType(fieldElement);
+            if (fieldElement.getAnnotation(BindArg.class).required()) {
+                type += " | REQUIRED";
+            }
+            typesBuilder.add("$L$L", separator, type);
+        }
+        for (Element fieldElement : fields) {
+            typeBuilder.addField(FieldSpec.builder(long.class, getChangedFieldName(fieldElement), PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("The changed bit of {@link $N#$N} returned by rebind.\n", targetElement.getQualifiedName(), fieldElement.getSimpleName())
+                    .initializer("1L << $L", Math.min(allFields.indexOf(fieldElement), Long.SIZE - 1))
+                    .build());
+        }
+        typeBuilder.addField(FieldSpec.builder(String[].class, "KEYS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("{$L}", keysBuilder.build())
+                .build());
+        typeBuilder.addField(FieldSpec.builder(int[].class, "TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("{$L}", typesBuilder.build())
+                .build());
+
+        typeBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addStatement("this(KEYS, TYPES)")
+                .build());
+        typeBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(String[].class, "keys")
+                .addParameter(int[].class, "types")
+                .addStatement("super(keys, types)")
+                .build());
+
+        if (!fields.isEmpty()) {
+            MethodSpec.Builder getArgMethodBuilder = MethodSpec.methodBuilder("getArg")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(Object.class)
+                    .addParameter(TypeVariableName.get("T"), "target")
+                    .addParameter(int.class, "index")
+                    .beginControlFlow("switch (index)");
+            MethodSpec.Builder setArgMethodBuilder = MethodSpec.methodBuilder("setArg")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .addParameter(TypeVariableName.get("T"), "target")
+                    .addParameter(int.class, "index")
+                    .addParameter(Object.class, "value")
+                    .beginControlFlow("switch (index)");
+            boolean isUnchecked = false;
+            for (Element fieldElement : fields) {
+                String fieldName = getArgName(fieldElement);
+                TypeName typeName = TypeName.get(getArgType(fieldElement));
+                int index = allFields.indexOf(fieldElement);
+                getArgMethodBuilder.addCode("case $L:\n", index)
+                        .addStatement("$>return target.$N$<", fieldName);
+                CodeBlock value;
+                if (isParcelableArray(getArgType(fieldElement))) {
+                    value = CodeBlock.of("toTypedArray(value, $T.class)", typeName);
+                } else {
+                    value = CodeBlock.of("($T) value", typeName.box());
+                    isUnchecked |= typeName instanceof ParameterizedTypeName;
+                }
+                setArgMethodBuilder.addCode("case $L:\n", index)
+                        .addStatement("$>target.$N = $L", fieldName, value)
+                        .addStatement("return$<");
+            }
+            getArgMethodBuilder.addCode("default:\n")
+                    .addStatement("$>return super.getArg(target, index)$<")
+                    .endControlFlow();
+            setArgMethodBuilder.addCode("default:\n")
+                    .addStatement("$>super.setArg(target, index, value)$<")
+                    .endControlFlow();
+            if (isUnchecked) {
+                setArgMethodBuilder.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build());
+            }
+            typeBuilder.addMethod(getArgMethodBuilder.build());
+            typeBuilder.addMethod(setArgMethodBuilder.build());
+        }
+
+        typeBuilder.addMethod(MethodSpec.methodBuilder("getSchemaHash")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(int.class)
+                .addStatement("return $L", getSchemaHash(getSuperFields(targetElement, targetAndFields.get(targetElement))))
+                .build());
+        JavaFile.builder(binderTypeName.packageName(), typeBuilder.build())
+                .addFileComment(GENERATED_FILE_COMMENT)
+                .build()
+                .writeTo(filer);
+    }
+
+    /**
+     * Get the code to bind the field from {@code args} to the destination, such as {@code target.field}
+     * or a local variable.
+     */
+    private CodeBlock getBindCode(Element fieldElement, CodeBlock destination,
+                                  Map<ClassName, String> adapterFields, Map<ClassName, String> enumLookups) {
+        TypeName typeName = TypeName.get(getArgType(fieldElement));
+        String fieldName = getArgName(fieldElement);
+        String fieldAlias = getFieldAlias(fieldElement);
+        CodeBlock.Builder bindCodeBuilder = CodeBlock.builder();
+        ClassName adapterTypeName = getTypeAdapter(fieldElement);
+        if (adapterTypeName != null) {
+            String adapterFieldName = getAdapterFieldName(adapterFields, adapterTypeName);
+            TypeName rawTypeName = TypeName.get(typeUtil.erasure(getArgType(fieldElement)));
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .beginControlFlow("if (schemaMatched)")
+                    .addStatement("$L = $N.get(args, $S)", destination, adapterFieldName, fieldAlias)
+                    .endControlFlow()
+                    .beginControlFlow("else")
+                    .add("// the old schema may put the value directly\n")
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null || $N instanceof $T)", fieldName, fieldName, rawTypeName)
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .nextControlFlow("else if (($N = $N.get(args, $S)) != null)", fieldName, adapterFieldName, fieldAlias)
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow();
+        } else if (isCompressed(fieldElement)) {
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .addStatement("$L = $T.get" + getBundleMethodType(fieldElement) + "(args, $S)", destination, ARG_COMPRESSOR_CLASS, fieldAlias)
+                    .endControlFlow();
+        } else if (getPackedElementType(fieldElement) != null) {
+            // unpack the primitive array to the collection
+            TypeName elementTypeName = getPackedElementType(fieldElement);
+            TypeName primitiveTypeName = elementTypeName.unbox();
+            TypeName rawTypeName = TypeName.get(typeUtil.erasure(getArgType(fieldElement)));
+            ClassName collectionTypeName = getPackedCollectionType(fieldElement);
+            String valuesName = fieldName + "Values";
+            String collectionName = fieldName + "Collection";
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null)", fieldName)
+                    .addStatement("$L = null", destination)
+                    .nextControlFlow("else if ($N instanceof $T[])", fieldName, primitiveTypeName)
+                    .addStatement("$T[] $N = ($T[]) $N", primitiveTypeName, valuesName, primitiveTypeName, fieldName);
+            if (collectionTypeName.simpleName().equals("ArrayList")) {
+                bindCodeBuilder.addStatement("$T<$T> $N = new $T<>($N.length)", collectionTypeName, elementTypeName, collectionName, collectionTypeName, valuesName);
+            } else {
+                bindCodeBuilder.addStatement("$T<$T> $N = new $T<>((int) ($N.length / 0.75f) + 1)", collectionTypeName, elementTypeName, collectionName, collectionTypeName, valuesName);
+            }
+            bindCodeBuilder.beginControlFlow("for ($T value : $N)", primitiveTypeName, valuesName)
+                    .addStatement("$N.add(value)", collectionName)
+                    .endControlFlow()
+                    .addStatement("$L = $N", destination, collectionName)
+                    .nextControlFlow("else if ($N instanceof $T)", fieldName, rawTypeName)
+                    .add("// the old schema put the value as Serializable\n")
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .endControlFlow()
+                    .endControlFlow();
+        } else if (typeName.isBoxedPrimitive()) {
+            // the value is boxed in the bundle too, get it directly to avoid unboxing and boxing again
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null || $N instanceof $T)", fieldName, fieldName, typeName)
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .endControlFlow()
+                    .endControlFlow();
+        } else if (isEnum(fieldElement)) {
+            String lookupMethodName = getEnumLookupMethodName(enumLookups, (ClassName) typeName);
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null)", fieldName)
+                    .addStatement("$L = null", destination)
+                    .nextControlFlow("else if ($N instanceof $T)", fieldName, String.class)
+                    .addStatement("$T $N = $N(($T) $N)", typeName, fieldName + "Value", lookupMethodName, String.class, fieldName)
+                    .beginControlFlow("if ($N != null)", fieldName + "Value")
+                    .addStatement("$L = $N", destination, fieldName + "Value")
+                    .endControlFlow()
+                    .nextControlFlow("else if ($N instanceof $T)", fieldName, typeName)
+                    .add("// the old schema put the value as Serializable\n")
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .endControlFlow()
+                    .endControlFlow();
+        } else if (isBundleDefaultType(fieldElement)) {
+            bindCodeBuilder.addStatement("$L = args.get" + getBundleMethodType(fieldElement) + "($S,$L)", destination, fieldAlias, destination);
+        } else if (isParcelableArray(getArgType(fieldElement))) {//Parcelable[]
+            TypeName parcelableArrayName = ArrayTypeName.of(PARCELABLE_CLASS);
+            TypeMirror componentType = ((ArrayType) getArgType(fieldElement)).getComponentType();
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null)", fieldName)
+                    .addStatement("$L = null", destination)
+                    .endControlFlow()
+                    .beginControlFlow("else if ($N instanceof $T)", fieldName, parcelableArrayName)
+                    .addStatement("$T[] $N = new $T[(($T) $N).length]", componentType, fieldName + "Values", componentType, parcelableArrayName, fieldName)
+                    .beginControlFlow("try")
+                    .addStatement("System.arraycopy($N, 0, $N, 0, $N.length)", fieldName, fieldName + "Values", fieldName + "Values")
+                    .addStatement("$L = $N", destination, fieldName + "Values")
+                    .nextControlFlow("catch ($T e)", ArrayStoreException.class)
+                    .add("// the component type is changed, the args come from an old schema\n")
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow();
+        } else {
+            TypeName rawTypeName = TypeName.get(typeUtil.erasure(getArgType(fieldElement)));
+            bindCodeBuilder.beginControlFlow("if (args.containsKey($S))", fieldAlias)
+                    .beginControlFlow("if (schemaMatched)");
+            if (isPrimitiveArray(getArgType(fieldElement))) {
+                // the getter of the primitive array is typed already
+                bindCodeBuilder.addStatement("$L = args.get" + getBundleMethodType(fieldElement) + "($S)", destination, fieldAlias);
+            } else {
+                bindCodeBuilder.addStatement("$L = ($T)args.get" + getBundleMethodType(fieldElement) + "($S)", destination, typeName, fieldAlias);
+            }
+            bindCodeBuilder.endControlFlow()
+                    .beginControlFlow("else")
+                    .addStatement("$T $N = args.get($S)", Object.class, fieldName, fieldAlias)
+                    .beginControlFlow("if ($N == null || $N instanceof $T)", fieldName, fieldName, rawTypeName)
+                    .addStatement("$L = ($T) $N", destination, typeName, fieldName)
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+
+        return bindCodeBuilder.build();
+    }
+
+    /**
+     * Get the name of the changed bit constant of the field.
+     */
+    private String getChangedFieldName(Element fieldElement) {
+        return "CHANGED_" + ProcessorUtils.toConstantName(getFieldAlias(fieldElement));
+    }
+
+    /**
+     * Get the condition whether the field is changed from the old value. The primitive is compared directly,
+     * the array is compared by content and the object by equals.
+     */
+    private CodeBlock getChangedCondition(Element fieldElement, String oldName) {
+        String fieldName = getArgName(fieldElement);
+        TypeMirror typeMirror = getArgType(fieldElement);
+        switch (typeMirror.getKind()) {
+            case FLOAT:
+                return CodeBlock.of("$T.compare(target.$N, $N) != 0", Float.class, fieldName, oldName);
+            case DOUBLE:
+                return CodeBlock.of("$T.compare(target.$N, $N) != 0", Double.class, fieldName, oldName);
+            case ARRAY:
+                return CodeBlock.of("!$T.equals(target.$N, $N)", Arrays.class, fieldName, oldName);
+            default:
+                if (typeMirror.getKind().isPrimitive()) {
+                    return CodeBlock.of("target.$N != $N", fieldName, oldName);
+                }
+                return CodeBlock.of("target.$1N != $2N && (target.$1N == null || !target.$1N.equals($2N))", fieldName, oldName);
+        }
+    }
+
+    /**
+     * Get the code to put the value of the field to {@code args}, or to the intent of the Activity and
+     * Service builder.
+     */
+    private CodeBlock getPutCode(Element fieldElement, boolean isContext, CodeBlock value, Map<ClassName, String> adapterFields) {
+        String fieldAlias = getFieldAlias(fieldElement);
+        ClassName adapterTypeName = getTypeAdapter(fieldElement);
+        TypeName typeName = TypeName.get(getArgType(fieldElement));
+        CodeBlock.Builder putCodeBuilder = CodeBlock.builder();
+        if (adapterTypeName != null) {
+            putCodeBuilder.addStatement("$N.put(args, $S, $L)", getAdapterFieldName(adapterFields, adapterTypeName), fieldAlias, value);
+        } else if (isCompressed(fieldElement)) {
+            putCodeBuilder.addStatement("$T.put" + getBundleMethodType(fieldElement) + "(args, $S, $L, $L)",
+                    ARG_COMPRESSOR_CLASS, fieldAlias, value, fieldElement.getAnnotation(BindArg.class).compress());
+        } else if (getPackedElementType(fieldElement) != null) {
+            // pack the collection to primitive array
+            TypeName elementTypeName = getPackedElementType(fieldElement);
+            TypeName primitiveTypeName = elementTypeName.unbox();
+            String arrayMethodType = ProcessorUtils.toFirstLetterUpperCase(primitiveTypeName.toString()) + "Array";
+            String valuesName = fieldAlias + "Values";
+            putCodeBuilder.beginControlFlow("if ($L == null)", value)
+                    .add(getPutArgCode(isContext, "String", fieldAlias, CodeBlock.of("null")))
+                    .nextControlFlow("else")
+                    .addStatement("$T[] $N = new $T[$L.size()]", primitiveTypeName, valuesName, primitiveTypeName, value)
+                    .addStatement("int i = 0")
+                    .beginControlFlow("for ($T value : $L)", elementTypeName, value)
+                    .beginControlFlow("if (value == null)")
+                    .addStatement("break")
+                    .endControlFlow()
+                    .addStatement("$N[i++] = value", valuesName)
+                    .endControlFlow()
+                    .beginControlFlow("if (i == $N.length)", valuesName)
+                    .add(getPutArgCode(isContext, arrayMethodType, fieldAlias, CodeBlock.of("$N", valuesName)))
+                    .nextControlFlow("else");
+            if (typeUtil.isSubtype(typeUtil.erasure(getArgType(fieldElement)), serializableType)) {
+                // the null element can't be packed, put the collection as Serializable as the old schema
+                putCodeBuilder.add(getPutArgCode(isContext, "Serializable", fieldAlias, value));
+            } else {
+                putCodeBuilder.addStatement("throw new $T($S)", IllegalArgumentException.class,
+                        "The null element of [" + fieldAlias + "] can't be packed, use a Serializable collection.");
+            }
+            putCodeBuilder.endControlFlow()
+                    .endControlFlow();
+        } else if (typeName.isBoxedPrimitive() || isEnum(fieldElement)) {
+            // the null value is the absence marker
+            putCodeBuilder.beginControlFlow("if ($L == null)", value)
+                    .add(getPutArgCode(isContext, "String", fieldAlias, CodeBlock.of("null")))
+                    .nextControlFlow("else");
+            if (typeName.isBoxedPrimitive()) {
+                putCodeBuilder.add(getPutArgCode(isContext, ProcessorUtils.toFirstLetterUpperCase(typeName.unbox().toString()),
+                        fieldAlias, CodeBlock.of("($T) $L", typeName.unbox(), value)));
+            } else {
+                putCodeBuilder.add(getPutArgCode(isContext, "String", fieldAlias, CodeBlock.of("$L.name()", value)));
+            }
+            putCodeBuilder.endControlFlow();
+        } else {
+            putCodeBuilder.add(getPutArgCode(isContext, getBundleMethodType(fieldElement), fieldAlias, value));
+        }
+        return putCodeBuilder.build();
+    }
+
+    /**
+     * Get the code to put the arg. The Activity and Service builder put the arg to its intent directly,
+     * so there is no copy from args to intent when build.
+     */
+    private CodeBlock getPutArgCode(boolean isContext, String bundleMethodType, String key, CodeBlock value) {
+        if (!isContext) {
+            return CodeBlock.of("args.put" + bundleMethodType + "($S,$L);\n", key, value);
+        }
+        // cast to choose the putExtra method
+        switch (bundleMethodType) {
+            case "Parcelable":
+                value = CodeBlock.of("($T) $L", PARCELABLE_CLASS, value);
+                break;
+            case "Serializable":
+                value = CodeBlock.of("($T) $L", Serializable.class, value);
+                break;
+            case "String":
+                if ("null".equals(value.toString())) {
+                    value = CodeBlock.of("($T) null", String.class);
+                }
+                break;
+            default:
+                break;
+        }
+        return CodeBlock.of("intent().putExtra($S,$L);\n", key, value);
+    }
+
     private TypeName getSuperBuilderTypeName(TypeElement targetElement, ClassName builderTypeName) {
         TypeName superTypeName;
         if (isActivity(targetElement)) {
             superTypeName = ACTIVITY_ARG_BUILDER_CLASS;
+        } else if (isResult(targetElement)) {
+            superTypeName = RESULT_ARG_BUILDER_CLASS;
         } else if (isService(targetElement)) {
             superTypeName = SERVICE_ARG_BUILDER_CLASS;
         } else {
@@ -487,11 +1883,249 @@ public class ArgBindingProcessor extends AbstractProcessor {
         return superTypeName;
     }
 
+    /**
+     * Whether the arg is the getter of a Kotlin delegated property, it's decoded by the lazy args and
+     * never bound by the binder.
+     */
+    private boolean isLazyArg(Element fieldElement) {
+        return fieldElement.getKind() == ElementKind.METHOD;
+    }
+
+    /**
+     * Get the type of the field, or the return type of the getter.
+     */
+    private TypeMirror getArgType(Element fieldElement) {
+        if (isLazyArg(fieldElement)) {
+            return ((ExecutableElement) fieldElement).getReturnType();
+        }
+        return fieldElement.asType();
+    }
+
+    /**
+     * Get the name of the field, or the property name of the getter, e.g. {@code name} of {@code getName}.
+     */
+    private String getArgName(Element fieldElement) {
+        String name = fieldElement.getSimpleName().toString();
+        if (isLazyArg(fieldElement) && name.startsWith("get")) {
+            // the getter of property isXxx is isXxx
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * Get the fields bound by the binder, the lazy args are excluded.
+     */
+    private List<Element> getBoundFields(List<Element> fields) {
+        List<Element> boundFields = new ArrayList<>(fields.size());
+        for (Element fieldElement : fields) {
+            if (!isLazyArg(fieldElement)) {
+                boundFields.add(fieldElement);
+            }
+        }
+        return boundFields;
+    }
+
+    /**
+     * Get the alias of the field, it is the key in the bundle.
+     */
+    private String getFieldAlias(Element fieldElement) {
+        BindArg fieldConfig = fieldElement.getAnnotation(BindArg.class);
+        if (!ProcessorUtils.isEmpty(fieldConfig.value())) {
+            return fieldConfig.value();
+        }
+        return getArgName(fieldElement);
+    }
+
+    /**
+     * Get the stable id of the field, it only depends on the key and the type, so it won't change
+     * when the fields are reordered or other fields are added or removed.
+     */
+    private int getFieldId(Element fieldElement) {
+        String fieldId = getFieldAlias(fieldElement) + ":" + typeUtil.erasure(getArgType(fieldElement));
+        ClassName adapterTypeName = getTypeAdapter(fieldElement);
+        if (adapterTypeName != null) {
+            // the encoding is changed by the adapter
+            fieldId += ":" + adapterTypeName;
+        } else if (isEnum(fieldElement)) {
+            // the enum is put as name
+            fieldId += ":name";
+        } else if (getPackedElementType(fieldElement) != null) {
+            // the collection is put as primitive array of the element type
+            fieldId += ":packed:" + getPackedElementType(fieldElement);
+        }
+        return fieldId.hashCode();
+    }
+
+    /**
+     * Get the name of the static enum lookup method in the generated class, the method will be added by
+     * {@link #addEnumLookupMethods(TypeSpec.Builder, Map)}.
+     */
+    private String getEnumLookupMethodName(Map<ClassName, String> enumLookups, ClassName enumTypeName) {
+        String methodName = enumLookups.get(enumTypeName);
+        if (methodName == null) {
+            methodName = "to" + String.join("", enumTypeName.simpleNames());
+            while (enumLookups.containsValue(methodName)) {
+                methodName += "_";
+            }
+            enumLookups.put(enumTypeName, methodName);
+        }
+        return methodName;
+    }
+
+    /**
+     * Add the static enum lookup methods, the method switches on the name, so there is no reflection.
+     */
+    private void addEnumLookupMethods(TypeSpec.Builder typeBuilder, Map<ClassName, String> enumLookups) {
+        for (Map.Entry<ClassName, String> entry : enumLookups.entrySet()) {
+            ClassName enumTypeName = entry.getKey();
+            MethodSpec.Builder lookupMethodBuilder = MethodSpec.methodBuilder(entry.getValue())
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(enumTypeName)
+                    .addParameter(String.class, "name")
+                    .beginControlFlow("switch (name)");
+            TypeElement enumElement = elementsUtil.getTypeElement(enumTypeName.toString());
+            for (Element enclosedElement : enumElement.getEnclosedElements()) {
+                if (enclosedElement.getKind() == ElementKind.ENUM_CONSTANT) {
+                    String constantName = enclosedElement.getSimpleName().toString();
+                    lookupMethodBuilder.addStatement("case $S: return $T.$N", constantName, enumTypeName, constantName);
+                }
+            }
+            lookupMethodBuilder.addComment("the constant is removed")
+                    .addStatement("default: return null")
+                    .endControlFlow();
+            typeBuilder.addMethod(lookupMethodBuilder.build());
+        }
+    }
+
+    /**
+     * Get the boxed element type of the collection which can be packed to primitive array,
+     * e.g. {@code List<Long>} to {@code long[]}, null if it can't be packed.
+     */
+    private TypeName getPackedElementType(Element fieldElement) {
+        TypeMirror typeMirror = getArgType(fieldElement);
+        if (typeMirror.getKind() != TypeKind.DECLARED || getPackedCollectionType(fieldElement) == null) {
+            return null;
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) typeMirror).getTypeArguments();
+        if (typeArguments.size() != 1) {
+            return null;
+        }
+        TypeName elementTypeName = TypeName.get(typeArguments.get(0));
+        return elementTypeName.isBoxedPrimitive() ? elementTypeName : null;
+    }
+
+    /**
+     * Get the collection type which is created when unpack, null if the collection type is not supported.
+     */
+    private ClassName getPackedCollectionType(Element fieldElement) {
+        String rawType = typeUtil.erasure(getArgType(fieldElement)).toString();
+        switch (rawType) {
+            case "java.util.Collection":
+            case "java.util.List":
+            case "java.util.ArrayList":
+                return ClassName.get(ArrayList.class);
+            case "java.util.Set":
+            case "java.util.HashSet":
+            case "java.util.LinkedHashSet":
+                // keep the order of the packed array
+                return ClassName.get(LinkedHashSet.class);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Whether the field is compressed.
+     */
+    private boolean isCompressed(Element fieldElement) {
+        return fieldElement.getAnnotation(BindArg.class).compress() != BindArg.NO_COMPRESS;
+    }
+
+    /**
+     * Whether the field decoded from the args of an old schema needs type checking.
+     */
+    private boolean isSchemaChecked(Element fieldElement) {
+        TypeMirror typeMirror = getArgType(fieldElement);
+        return !isBundleDefaultType(fieldElement) && !isParcelableArray(typeMirror) && !isCompressed(fieldElement)
+                && !TypeName.get(typeMirror).isBoxedPrimitive() && !isEnum(fieldElement)
+                && getPackedElementType(fieldElement) == null;
+    }
+
+    /**
+     * Whether it's enum.
+     */
+    private boolean isEnum(Element fieldElement) {
+        TypeMirror typeMirror = getArgType(fieldElement);
+        return typeMirror.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) typeMirror).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * Get the adapter of the field type, null if there is no adapter.
+     */
+    private ClassName getTypeAdapter(Element fieldElement) {
+        TypeMirror typeMirror = getArgType(fieldElement);
+        if (typeMirror.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return typeAdapters.get(typeUtil.erasure(typeMirror).toString());
+    }
+
+    /**
+     * Get the name of the static adapter field in the generated class, the field will be added by
+     * {@link #addAdapterFields(TypeSpec.Builder, Map)}.
+     */
+    private String getAdapterFieldName(Map<ClassName, String> adapterFields, ClassName adapterTypeName) {
+        String fieldName = adapterFields.get(adapterTypeName);
+        if (fieldName == null) {
+            fieldName = ProcessorUtils.toConstantName(adapterTypeName.simpleName());
+            while (adapterFields.containsValue(fieldName)) {
+                fieldName += "_";
+            }
+            adapterFields.put(adapterTypeName, fieldName);
+        }
+        return fieldName;
+    }
+
+    /**
+     * Add the static adapter fields, the adapters are shared by all the instances.
+     */
+    private void addAdapterFields(TypeSpec.Builder typeBuilder, Map<ClassName, String> adapterFields) {
+        for (Map.Entry<ClassName, String> entry : adapterFields.entrySet()) {
+            typeBuilder.addField(FieldSpec.builder(entry.getKey(), entry.getValue(), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T()", entry.getKey())
+                    .build());
+        }
+    }
+
+    /**
+     * Get the schema hash of the target, the fields include the super fields.
+     */
+    private int getSchemaHash(List<Element> fields) {
+        int[] fieldIds = new int[fields.size()];
+        for (int i = 0; i < fieldIds.length; i++) {
+            fieldIds[i] = getFieldId(fields.get(i));
+        }
+        Arrays.sort(fieldIds);
+        int hash = Arrays.hashCode(fieldIds);
+        // 0 is the value of the args without schema hash
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Whether the type can be got from the bundle with default value, e.g. primitive and String.
+     */
+    private boolean isBundleDefaultType(Element fieldElement) {
+        TypeName typeName = TypeName.get(getArgType(fieldElement));
+        return typeName.isPrimitive() || typeName.toString().equals(STRING);
+    }
+
     /**
      * Get the type in the bundle.
      */
     private String getBundleMethodType(Element element) {
-        TypeMirror typeMirror = element.asType();
+        TypeMirror typeMirror = getArgType(element);
         String type = bundleMethodTypes.get(typeMirror.toString());
         if (type == null) {
             type = getBundleMethodType(typeMirror);
@@ -511,6 +2145,9 @@ public class ArgBindingProcessor extends AbstractProcessor {
         if (typeName.toString().equals(STRING)) {
             return "String";
         }
+        if (typeMirror.getKind() == TypeKind.ARRAY && ((ArrayType) typeMirror).getComponentType().getKind().isPrimitive()) {
+            return ProcessorUtils.toFirstLetterUpperCase(((ArrayType) typeMirror).getComponentType().toString()) + "Array";
+        }
         if (typeUtil.isSubtype(typeMirror, parcelableType)) {
             return "Parcelable";
         }
@@ -525,6 +2162,10 @@ public class ArgBindingProcessor extends AbstractProcessor {
                 || typeUtil.isSubtype(element.asType(), v4FragmentType);
     }
 
+    private boolean isResult(Element element) {
+        return element.getKind() == ElementKind.CLASS && element.getAnnotation(BindResult.class) != null;
+    }
+
     private boolean isActivity(Element element) {
         return typeUtil.isSubtype(element.asType(), activityType);
     }
@@ -533,6 +2174,20 @@ public class ArgBindingProcessor extends AbstractProcessor {
         return typeUtil.isSubtype(element.asType(), serviceType);
     }
 
+    /**
+     * Whether it's a plain class bound from a bundle, e.g. ViewModel or presenter.
+     */
+    private boolean isPlain(Element element) {
+        return !(isActivity(element) || isService(element) || isFragment(element) || isResult(element));
+    }
+
+    /**
+     * Whether it's primitive array, e.g. long[].
+     */
+    private boolean isPrimitiveArray(TypeMirror typeMirror) {
+        return TypeKind.ARRAY.equals(typeMirror.getKind()) && ((ArrayType) typeMirror).getComponentType().getKind().isPrimitive();
+    }
+
     /**
      * Whether it's Parcelable[].
      */
@@ -544,8 +2199,8 @@ public class ArgBindingProcessor extends AbstractProcessor {
      * Check whether the bind target is legal.
      */
     private void checkTarget(TypeElement targetElement) {
-        if (!(isActivity(targetElement) || isService(targetElement) || isFragment(targetElement))) {
-            ProcessorUtils.error("The bind target must be activity、service or fragment.[%s]", targetElement.getQualifiedName());
+        if (targetElement.getKind() != ElementKind.CLASS) {
+            ProcessorUtils.error("The bind target must be class.[%s]", targetElement.getQualifiedName());
         }
 
         if (targetElement.getNestingKind() != NestingKind.TOP_LEVEL) {
@@ -557,4 +2212,26 @@ public class ArgBindingProcessor extends AbstractProcessor {
             ProcessorUtils.error("The bind target incorrectly in Android or Java framework package. [%s]", qualifiedName);
         }
     }
+
+    /**
+     * The node of the route trie.
+     */
+    private static class RouteNode {
+        private final Map<String, RouteNode> children = new TreeMap<>();
+        private String methodName;
+        private int nodeCount;
+
+        /**
+         * Get the count of the nodes in the subtree, including itself.
+         */
+        private int getNodeCount() {
+            if (nodeCount == 0) {
+                nodeCount = 1;
+                for (RouteNode child : children.values()) {
+                    nodeCount += child.getNodeCount();
+                }
+            }
+            return nodeCount;
+        }
+    }
 }
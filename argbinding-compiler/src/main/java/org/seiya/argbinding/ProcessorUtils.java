@@ -29,6 +29,23 @@ class ProcessorUtils {
         return str.substring(0, 1).toUpperCase().concat(str.substring(1));
     }
 
+    /**
+     * Convert the camel case name to constant name, e.g. UUIDTypeAdapter to UUID_TYPE_ADAPTER.
+     */
+    public static String toConstantName(String str) {
+        StringBuilder builder = new StringBuilder(str.length() + 8);
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (i > 0 && Character.isUpperCase(c)
+                    && (Character.isLowerCase(str.charAt(i - 1))
+                    || (i + 1 < str.length() && Character.isLowerCase(str.charAt(i + 1))))) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
     public static boolean isEmpty(String str) {
         return str == null || str.isEmpty();
     }
@@ -16,40 +16,44 @@ import java.util.*
  */
 @BindTarget
 class TestKotlinActivity : BaseActivity() {
+    /**
+     * The args are decoded on first access, there is no bind call, declare it before the delegates.
+     */
+    private val args = TestKotlinActivityLazyArgs()
+
     /**
      * 年龄.
      */
-    @BindArg
-    @JvmField
-    var age: Int = 0
-    @BindArg(value = "ageOther", required = false)
-    @JvmField
-    var age2: Int = 0
-    @BindArg
-    lateinit var name: String
-    @BindArg(required = false)
-    lateinit var p: ParcelableUser
-    @BindArg
-    lateinit var mS1: SerializableUser
-    @BindArg(required = false)
-    lateinit var ageArray: IntArray
-    @BindArg(required = false)
-    lateinit var age2Array: Array<Int>
-    @BindArg(required = false)
-    lateinit var nameArray: Array<String>
-    @BindArg(required = false)
-    lateinit var pArray: Array<ParcelableUser>
-    @BindArg(required = false)
-    lateinit var sArray: Array<SerializableUser>
-    @BindArg(required = false)
-    lateinit var nameList: ArrayList<String>
-    @BindArg(required = false)
-    lateinit var pList: ArrayList<ParcelableUser>
+    @get:BindArg
+    val age: Int by args.age()
+    @get:BindArg(value = "ageOther", required = false)
+    val age2: Int by args.ageOther()
+    @get:BindArg
+    val name: String by args.name()
+    @get:BindArg(required = false)
+    val p: ParcelableUser? by args.p()
+    @get:BindArg
+    val mS1: SerializableUser by args.mS1()
+    @get:BindArg(required = false)
+    val ageArray: IntArray? by args.ageArray()
+    @get:BindArg(required = false)
+    val age2Array: Array<Int>? by args.age2Array()
+    @get:BindArg(required = false)
+    val nameArray: Array<String>? by args.nameArray()
+    @get:BindArg(required = false)
+    val pArray: Array<ParcelableUser>? by args.pArray()
+    @get:BindArg(required = false)
+    val sArray: Array<SerializableUser>? by args.sArray()
+    @get:BindArg(required = false)
+    val nameList: ArrayList<String>? by args.nameList()
+    @get:BindArg(required = false)
+    val pList: ArrayList<ParcelableUser>? by args.pList()
 
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
-        setContentView(R.layout.test_activity)
+        // the field ageBase of the Java super BaseActivity isn't lazy, it's only bound by the binder
         ArgBinding.get().bind(this)
+        setContentView(R.layout.test_activity)
 
         val sBuilder = StringBuilder()
         sBuilder.append("name:$name\n")
@@ -20,4 +20,11 @@
 # hide the original source file name.
 #-renamesourcefileattribute SourceFile
 
--keep class * extends org.seiya.argbinding.ArgBinder
\ No newline at end of file
+# The binders are looked up by the name of the target, keep the binder of each kept target and
+# the name of the target, so the binders of removed targets are shrunk.
+-if class **
+-keep class <1>$$ArgBinder {
+    <init>();
+}
+-if class **$$ArgBinder
+-keepnames class <1>
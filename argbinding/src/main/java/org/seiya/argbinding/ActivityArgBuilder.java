@@ -17,8 +17,11 @@
 package org.seiya.argbinding;
 
 import android.app.Activity;
+import android.content.Context;
 import android.content.Intent;
 
+import java.util.concurrent.Executor;
+
 /**
  * The base class of Activity arg builder.
  *
@@ -48,4 +51,41 @@ public abstract class ActivityArgBuilder<T extends ActivityArgBuilder<T>> extend
         Intent intent = build();
         ((Activity) context).startActivityForResult(intent, requestCode);
     }
+
+    /**
+     * Start activity asynchronously, the args are marshalled on the executor and the activity is started
+     * on the main thread, context can't be null.
+     *
+     * @return The handle to cancel the launch.
+     */
+    public ArgLaunch startAsync(Executor executor) {
+        checkContextNull();
+        final Context context = this.context;
+        return ArgLaunch.enqueue(new Intent(build()), new ArgLaunch.Starter() {
+            @Override
+            public void start(Intent intent) {
+                context.startActivity(intent);
+            }
+        }, executor);
+    }
+
+    /**
+     * Start activity for result asynchronously, context must be Activity and can't be null.
+     *
+     * @return The handle to cancel the launch.
+     * @see #startAsync(Executor)
+     */
+    public ArgLaunch startForResultAsync(final int requestCode, Executor executor) {
+        checkContextNull();
+        if (!(context instanceof Activity)) {
+            throw new IllegalArgumentException("Context is not Activity, can't use startForResult.");
+        }
+        final Activity activity = (Activity) context;
+        return ArgLaunch.enqueue(new Intent(build()), new ArgLaunch.Starter() {
+            @Override
+            public void start(Intent intent) {
+                activity.startActivityForResult(intent, requestCode);
+            }
+        }, executor);
+    }
 }
@@ -19,14 +19,25 @@ package org.seiya.argbinding;
 import android.os.Bundle;
 import android.support.annotation.CallSuper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * The base class of arg binder.
+ * The base class of arg binder, an instance is shared by all the targets of the class. It only caches the
+ * names of its trace sections, they are immutable strings, so a race computes the same name twice at worst.
  *
  * @author ZhengAn
  * @date 2019/2/12
  */
 public abstract class ArgBinder<T> {
 
+    /**
+     * The simple name of the target class in the trace sections.
+     */
+    private String targetName;
+    private String checkSectionName;
+    private String bindSectionName;
+
     /**
      * Bind args to target.
      *
@@ -35,17 +46,167 @@ public abstract class ArgBinder<T> {
      * @param checkRequiredArg Whether to check the required args
      */
     public void bindArgs(T target, Bundle args, boolean checkRequiredArg) {
+        args = SharedArgs.expand(args);
+        ArgTracer tracer = ArgTrace.tracer;
         if (checkRequiredArg) {
-            checkRequiredArg(args);
+            checkRequiredArg(args, tracer);
         }
         if (args != null) {
-            bindArgs(target, args);
+            if (tracer != null) {
+                tracer.beginSection(getBindSectionName());
+            }
+            try {
+                bindArgs(target, args);
+            } finally {
+                if (tracer != null) {
+                    tracer.endSection();
+                }
+            }
+        }
+    }
+
+    private void checkRequiredArg(Bundle args, ArgTracer tracer) {
+        if (tracer != null) {
+            if (checkSectionName == null) {
+                checkSectionName = "ArgBinding.checkRequiredArg:" + getTargetName();
+            }
+            tracer.beginSection(checkSectionName);
+        }
+        try {
+            checkRequiredArg(args);
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+    }
+
+    private String getBindSectionName() {
+        if (bindSectionName == null) {
+            bindSectionName = "ArgBinding.bind:" + getTargetName();
         }
+        return bindSectionName;
+    }
+
+    /**
+     * Set the target class which the binder is looked up for, it may be a subclass of the class the
+     * binder is generated for.
+     */
+    void setTargetClass(Class<?> targetClass) {
+        targetName = targetClass.getSimpleName();
+    }
+
+    private String getTargetName() {
+        if (targetName == null) {
+            String binderName = getClass().getSimpleName();
+            targetName = binderName.substring(0, binderName.length() - CommonConstants.BINDER_NAME_SUFFIX.length());
+        }
+        return targetName;
     }
 
     @CallSuper
     protected abstract void bindArgs(T target, Bundle args);
 
+    /**
+     * Rebind args to target, e.g. in onNewIntent, only the changed fields are marked.
+     *
+     * @param target
+     * @param args
+     * @param checkRequiredArg Whether to check the required args
+     * @return The bitmask of the changed fields, see the {@code CHANGED_} constants of the generated binder.
+     */
+    public long rebindArgs(T target, Bundle args, boolean checkRequiredArg) {
+        args = SharedArgs.expand(args);
+        ArgTracer tracer = ArgTrace.tracer;
+        if (checkRequiredArg) {
+            checkRequiredArg(args, tracer);
+        }
+        if (args == null) {
+            return 0;
+        }
+        if (tracer != null) {
+            tracer.beginSection(getBindSectionName());
+        }
+        try {
+            return rebindArgs(target, args);
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+    }
+
+    @CallSuper
+    protected abstract long rebindArgs(T target, Bundle args);
+
+    /**
+     * Save the fields which differ from their args to the saved instance state, then restore them by
+     * {@link #restoreArgs(Object, Bundle)} after the args are bound again. Nothing tracks the fields while
+     * the target runs, the changed mask is computed here by {@link #diffArgs(Object, Bundle)}, so a field
+     * changed and set back to its arg isn't saved.
+     *
+     * @param target
+     * @param args     The args bound to the target.
+     * @param outState The saved instance state.
+     */
+    public void saveArgs(T target, Bundle args, Bundle outState) {
+        args = SharedArgs.expand(args);
+        long changed = args != null ? diffArgs(target, args) : -1L;
+        if (changed == 0) {
+            outState.remove(CommonConstants.SAVED_ARGS_KEY);
+            return;
+        }
+        Bundle savedArgs = new Bundle();
+        savedArgs.putInt(CommonConstants.SCHEMA_HASH_KEY, getSchemaHash());
+        saveArgs(target, changed, savedArgs);
+        outState.putBundle(CommonConstants.SAVED_ARGS_KEY, savedArgs);
+    }
+
+    /**
+     * Restore the fields saved by {@link #saveArgs(Object, Bundle, Bundle)}.
+     *
+     * @param target
+     * @param savedState The saved instance state, may be null.
+     */
+    public void restoreArgs(T target, Bundle savedState) {
+        Bundle savedArgs = savedState != null ? savedState.getBundle(CommonConstants.SAVED_ARGS_KEY) : null;
+        if (savedArgs != null) {
+            restoreSavedArgs(target, savedArgs);
+        }
+    }
+
+    /**
+     * Restore the saved fields, they are decoded in the same way as {@link #bindArgs(Object, Bundle)}, but
+     * a field saved as null is restored to null, while bind keeps the value of the field for a null arg.
+     *
+     * @param target
+     * @param savedArgs The args saved by {@link #saveArgs(Object, long, Bundle)}.
+     */
+    @CallSuper
+    protected abstract void restoreSavedArgs(T target, Bundle savedArgs);
+
+    /**
+     * Get the bitmask of the fields which differ from their decoded args or whose args are absent. It's
+     * a full diff which decodes every arg again, the fields are assigned directly so their changes can't
+     * be tracked, it runs only when the state is saved.
+     *
+     * @param target
+     * @param args The args bound to the target.
+     * @return
+     */
+    @CallSuper
+    protected abstract long diffArgs(T target, Bundle args);
+
+    /**
+     * Put the changed fields to args.
+     *
+     * @param target
+     * @param changed The changed mask computed by {@link #diffArgs(Object, Bundle)}.
+     * @param args
+     */
+    @CallSuper
+    protected abstract void saveArgs(T target, long changed, Bundle args);
+
     /**
      * Check required arg, if there are no required arg, the method will be empty.
      *
@@ -53,4 +214,46 @@ public abstract class ArgBinder<T> {
      */
     @CallSuper
     protected abstract void checkRequiredArg(Bundle args);
+
+    /**
+     * Add the empty required field, the list is created only when a required arg is absent, so
+     * checking the args doesn't allocate.
+     *
+     * @param emptyFields The empty fields added before, may be null.
+     * @param field
+     * @return The list of the empty fields.
+     */
+    protected static List<String> addEmptyField(List<String> emptyFields, String field) {
+        if (emptyFields == null) {
+            emptyFields = new ArrayList<>();
+        }
+        emptyFields.add(field);
+        return emptyFields;
+    }
+
+    /**
+     * Get the schema hash of the target, it is computed from the stable field ids(key and type)
+     * of all the bind fields, include the super fields.
+     *
+     * @return The schema hash, never be 0.
+     */
+    protected abstract int getSchemaHash();
+
+    /**
+     * Get the count of the bind fields, include the super fields, the changed bit of each field is
+     * {@code 1L << index}, so another binder can put its fields after them.
+     */
+    protected abstract int getFieldCount();
+
+    /**
+     * Whether the args is built by the builder of the same schema. If it is matched, the binder
+     * can read the values directly, otherwise the args may come from an old version(e.g. a
+     * PendingIntent which outlives the app upgrade), the value type must be checked before bind.
+     *
+     * @param args
+     * @return
+     */
+    protected final boolean isSchemaMatched(Bundle args) {
+        return args.getInt(CommonConstants.SCHEMA_HASH_KEY) == getSchemaHash();
+    }
 }
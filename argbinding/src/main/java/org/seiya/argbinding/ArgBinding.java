@@ -26,6 +26,7 @@ import android.support.annotation.UiThread;
 import android.util.Log;
 
 import org.seiya.argbinding.annotation.BindArg;
+import org.seiya.argbinding.annotation.ReflectArg;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -42,11 +43,26 @@ public class ArgBinding {
     private static ArgBinding instance;
     private static final String TAG = "ArgBinding";
 
-    private Map<Class<?>, Class<? extends ArgBinder>> binderClass = new LinkedHashMap<>();
+    /**
+     * The binder classes of the target classes, grouped by the class loader of the target class, so the
+     * targets of a dynamic feature are looked up in its own class loader. The cached classes reference
+     * their class loader, so a weak key would never be cleared, the class loader is held until
+     * {@link #clearBinders(ClassLoader)}.
+     */
+    private Map<ClassLoader, Map<Class<?>, Class<? extends ArgBinder>>> binderClasses = new LinkedHashMap<>();
+    /**
+     * The binders are stateless, so one instance of each target class is reused, they are grouped by
+     * the class loader of the target class too.
+     */
+    private Map<ClassLoader, Map<Class<?>, ArgBinder>> binders = new LinkedHashMap<>();
     /**
      * Whether to check the required arg.
      */
     private boolean checkRequiredArg = true;
+    /**
+     * Whether to bind the target without generated binder by reflection.
+     */
+    private boolean reflectFallback;
     private boolean debug = true;
 
     private ArgBinding() {
@@ -78,6 +94,46 @@ public class ArgBinding {
         this.checkRequiredArg = checkRequiredArg;
     }
 
+    /**
+     * Whether to check the required arg, the generated {@code XxxArgs.from(bundle)} checks it too.
+     */
+    public boolean isCheckRequiredArg() {
+        return checkRequiredArg;
+    }
+
+    /**
+     * Whether to bind the {@link ReflectArg} fields by reflection when the target has no generated binder,
+     * e.g. the classes of a dynamic feature module compiled without the annotation processor. The fields
+     * are looked up once for each target class. The default is false.
+     * <p>
+     * With minify enabled, keep the names and annotations of the fields bound by reflection.
+     */
+    @UiThread
+    public void setReflectFallback(boolean reflectFallback) {
+        this.reflectFallback = reflectFallback;
+        // look up the binders again, the targets without generated binder are cached as null
+        binders.clear();
+    }
+
+    /**
+     * Drop the binders of the classes loaded by the class loader. It must be called when the class loader
+     * is discarded, e.g. a dynamic feature is uninstalled, the binders hold the class loader strongly
+     * and it is never collected otherwise.
+     */
+    @UiThread
+    public void clearBinders(@NonNull ClassLoader classLoader) {
+        binders.remove(classLoader);
+        binderClasses.remove(classLoader);
+    }
+
+    /**
+     * Set the tracer to wrap binder lookup, required arg check, field binding and intent build in
+     * trace sections, e.g. {@link ArgTracer#SYSTRACE}. The default is null, which disables tracing.
+     */
+    public void setTracer(@Nullable ArgTracer tracer) {
+        ArgTrace.tracer = tracer;
+    }
+
     /**
      * Bind annotated fields and methods in the specified {@link BindArg}.
      *
@@ -98,6 +154,7 @@ public class ArgBinding {
     @UiThread
     public void bind(@NonNull android.app.Fragment target) {
         bind(target, target.getArguments());
+        ArgFragmentCache.onBound(target);
     }
 
     /**
@@ -109,6 +166,7 @@ public class ArgBinding {
     @UiThread
     public void bind(@NonNull android.support.v4.app.Fragment target) {
         bind(target, target.getArguments());
+        ArgFragmentCache.onBound(target);
     }
 
     /**
@@ -123,35 +181,182 @@ public class ArgBinding {
     }
 
     /**
-     * Bind annotated fields in the specified {@code target} .
+     * Rebind annotated fields in the specified {@code target} with the new intent, e.g. in onNewIntent.
      *
      * @param target Target class for arg binding.
+     * @return The bitmask of the changed fields, see the {@code CHANGED_} constants of the generated binder.
+     */
+    @UiThread
+    public long rebind(@NonNull Object target, @NonNull Intent intent) {
+        ArgBinder binder = getBinder(target);
+        if (binder == null) {
+            return 0;
+        }
+        return binder.rebindArgs(target, intent.getExtras(), checkRequiredArg);
+    }
+
+    /**
+     * Save the annotated fields which are changed since bind, call it in onSaveInstanceState.
+     *
+     * @param target Target class for arg binding.
+     */
+    @UiThread
+    public void saveArgs(@NonNull Activity target, @NonNull Bundle outState) {
+        saveArgs(target, target.getIntent().getExtras(), outState);
+    }
+
+    /**
+     * Save the annotated fields which are changed since bind, call it in onSaveInstanceState.
+     *
+     * @param target Target class for arg binding.
+     */
+    @UiThread
+    public void saveArgs(@NonNull android.app.Fragment target, @NonNull Bundle outState) {
+        saveArgs(target, target.getArguments(), outState);
+    }
+
+    /**
+     * Save the annotated fields which are changed since bind, call it in onSaveInstanceState.
+     *
+     * @param target Target class for arg binding.
+     */
+    @UiThread
+    public void saveArgs(@NonNull android.support.v4.app.Fragment target, @NonNull Bundle outState) {
+        saveArgs(target, target.getArguments(), outState);
+    }
+
+    /**
+     * Save the annotated fields which are changed since bind, call it in onSaveInstanceState.
+     *
+     * @param target Target class for arg binding.
+     * @param args   The args bound to the target.
      */
-    @NonNull
     @UiThread
-    private void bind(@NonNull Object target, Bundle args) {
+    public void saveArgs(@NonNull Object target, @Nullable Bundle args, @NonNull Bundle outState) {
+        ArgBinder binder = getBinder(target);
+        if (binder != null) {
+            binder.saveArgs(target, args, outState);
+        }
+    }
+
+    /**
+     * Restore the annotated fields saved by {@code saveArgs}, call it after bind.
+     *
+     * @param target     Target class for arg binding.
+     * @param savedState The saved instance state, may be null.
+     */
+    @UiThread
+    public void restoreArgs(@NonNull Object target, @Nullable Bundle savedState) {
+        if (savedState == null) {
+            return;
+        }
+        ArgBinder binder = getBinder(target);
+        if (binder != null) {
+            binder.restoreArgs(target, savedState);
+        }
+    }
+
+    @Nullable
+    @UiThread
+    private ArgBinder getBinder(@NonNull Object target) {
         Class<?> targetClass = target.getClass();
+        Map<Class<?>, ArgBinder> loaderBinders = getLoaderCache(binders, targetClass.getClassLoader());
+        ArgBinder binder = loaderBinders.get(targetClass);
+        if (binder != null || loaderBinders.containsKey(targetClass)) {
+            return binder;
+        }
         if (debug) Log.d(TAG, "Looking up binding for " + targetClass.getName());
-        Class<? extends ArgBinder> bindingClass = findBinderClass(target.getClass());
-        if (bindingClass == null) {
-            return;
+        // the lookup is traced once per target class, so the name isn't kept
+        ArgTracer tracer = ArgTrace.tracer;
+        if (tracer != null) {
+            tracer.beginSection("ArgBinding.lookup:" + targetClass.getSimpleName());
         }
         try {
-            ArgBinder binder = bindingClass.newInstance();
+            Class<? extends ArgBinder> bindingClass = findBinderClass(targetClass);
+            if (bindingClass != null) {
+                try {
+                    binder = bindingClass.newInstance();
+                } catch (InstantiationException e) {
+                    e.printStackTrace();
+                } catch (IllegalAccessException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (reflectFallback) {
+                // the generated binder of the super class binds the fields declared in and above it
+                ArgBinder reflectBinder = ReflectArgBinder.create(targetClass,
+                        getBoundClass(targetClass, binder != null ? bindingClass : null), binder, debug);
+                if (reflectBinder != null) {
+                    binder = reflectBinder;
+                    if (debug) Log.d(TAG, "Bind " + targetClass.getName() + " by reflection.");
+                }
+            }
+            if (binder != null) {
+                binder.setTargetClass(targetClass);
+            }
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+        loaderBinders.put(targetClass, binder);
+        return binder;
+    }
+
+    /**
+     * Get the cache of the classes loaded by the class loader.
+     */
+    @NonNull
+    private static <V> Map<Class<?>, V> getLoaderCache(@NonNull Map<ClassLoader, Map<Class<?>, V>> caches,
+                                                       @Nullable ClassLoader classLoader) {
+        Map<Class<?>, V> cache = caches.get(classLoader);
+        if (cache == null) {
+            cache = new LinkedHashMap<>();
+            caches.put(classLoader, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Bind annotated fields in the specified {@code target} with the args, e.g. a ViewModel or presenter
+     * bound from the intent extras or the fragment arguments, so the args are read once for the screen.
+     *
+     * @param target Target class for arg binding.
+     * @param args   The args built by the builder of the target, may be null.
+     */
+    @UiThread
+    public void bind(@NonNull Object target, @Nullable Bundle args) {
+        ArgBinder binder = getBinder(target);
+        if (binder != null) {
             binder.bindArgs(target, args, checkRequiredArg);
-        } catch (InstantiationException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
         }
     }
 
+    /**
+     * Get the class in the hierarchy of the target which the binder is generated for.
+     */
+    @Nullable
+    private static Class<?> getBoundClass(@NonNull Class<?> targetClass, @Nullable Class<? extends ArgBinder> binderClass) {
+        if (binderClass == null) {
+            return null;
+        }
+        String binderName = binderClass.getName();
+        String boundName = binderName.substring(0, binderName.length() - CommonConstants.BINDER_NAME_SUFFIX.length());
+        for (Class<?> cls = targetClass; cls != null; cls = cls.getSuperclass()) {
+            if (cls.getName().equals(boundName)) {
+                return cls;
+            }
+        }
+        return null;
+    }
+
     @CheckResult
     @Nullable
     @UiThread
     private Class<? extends ArgBinder> findBinderClass(Class<?> targetCls) {
-        Class<? extends ArgBinder> binderCls = binderClass.get(targetCls);
-        if (binderCls != null || binderClass.containsKey(targetCls)) {
+        Map<Class<?>, Class<? extends ArgBinder>> loaderBinderClasses = getLoaderCache(binderClasses, targetCls.getClassLoader());
+        Class<? extends ArgBinder> binderCls = loaderBinderClasses.get(targetCls);
+        if (binderCls != null || loaderBinderClasses.containsKey(targetCls)) {
             if (debug) Log.d(TAG, "HIT: Cached in binding map.");
             return binderCls;
         }
@@ -163,7 +368,8 @@ public class ArgBinding {
         }
         String binderClassName = clsName + CommonConstants.BINDER_NAME_SUFFIX;
         try {
-            binderCls = (Class<? extends ArgBinder>) Class.forName(binderClassName);
+            // the binder is generated in the same module as the target, e.g. a split of a dynamic feature
+            binderCls = (Class<? extends ArgBinder>) Class.forName(binderClassName, true, targetCls.getClassLoader());
             if (debug) Log.d(TAG, "HIT: Loaded binding class and method.");
         } catch (ClassNotFoundException e) {
             if (debug)
@@ -171,7 +377,7 @@ public class ArgBinding {
             binderCls = findBinderClass(targetCls.getSuperclass());
         }
         //If don't find it, put null in.
-        binderClass.put(targetCls, binderCls);
+        loaderBinderClasses.put(targetCls, binderCls);
         return binderCls;
     }
 }
@@ -18,6 +18,9 @@ package org.seiya.argbinding;
 
 import android.os.Bundle;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The base class of arg builder.
  *
@@ -26,18 +29,134 @@ import android.os.Bundle;
  */
 public abstract class ArgBuilder<T extends ArgBuilder<T>> {
     protected Bundle args = new Bundle();
+    /**
+     * Whether the args has been returned by {@link #buildArg()}.
+     */
+    private boolean argsBuilt;
 
     /**
      * Return the build args.
      *
      * @return The build args.
      */
-    public final Bundle buildArg() {
+    public Bundle buildArg() {
+        argsBuilt = true;
         return args;
     }
 
+    /**
+     * Create an immutable template with the current args, the builder can still be modified.
+     *
+     * @return The template.
+     */
+    public ArgTemplate<T> snapshot() {
+        return new ArgTemplate<>(copyArgs());
+    }
+
+    /**
+     * Put all the args of the template, the args set before will be overridden.
+     *
+     * @param template
+     * @return
+     */
+    public T applyTemplate(ArgTemplate<T> template) {
+        args.putAll(template.args);
+        return self();
+    }
+
+    /**
+     * Replace the args with the template, the args returned by build won't be changed.
+     *
+     * @param template
+     */
+    protected void loadTemplate(ArgTemplate<T> template) {
+        args = new Bundle(template.args);
+        argsBuilt = false;
+    }
+
+    /**
+     * Return a copy of the current args.
+     *
+     * @return
+     */
+    protected Bundle copyArgs() {
+        return new Bundle(args);
+    }
+
+    /**
+     * Reset the builder to reuse it. The args returned by build won't be changed, a new args will be
+     * created if the old one has been returned.
+     *
+     * @return
+     */
+    public T reset() {
+        if (argsBuilt) {
+            args = new Bundle();
+            argsBuilt = false;
+        } else {
+            args.clear();
+        }
+        onReset();
+        return self();
+    }
+
+    /**
+     * Called when reset, put the initial args.
+     */
+    protected void onReset() {
+    }
+
     public abstract <K> K build();
 
+    /**
+     * Build the results in batch, e.g. the fragments of ViewPager. The current args are shared by all
+     * the items as one immutable nested bundle, each item only puts its own args, no builder is allocated.
+     * The shared args are expanded when the args are bound, read them by the binder, the lazy args or
+     * {@code XxxArgs}, or {@link SharedArgs#expand(Bundle)} first. The builder keeps the current args.
+     *
+     * @param count    The count of the items.
+     * @param itemArgs Set the args of each item.
+     * @return The results.
+     */
+    public <K> List<K> buildAll(int count, ItemArgs<T> itemArgs) {
+        ArgTemplate<T> template = snapshot();
+        List<K> results = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                loadSharedArgs(template.args);
+                itemArgs.setArgs(self(), i);
+                results.add(this.<K>build());
+            }
+        } finally {
+            loadTemplate(template);
+        }
+        return results;
+    }
+
+    /**
+     * Replace the args with the shared args of an item, the args returned by build won't be changed.
+     *
+     * @param sharedArgs The immutable shared args.
+     */
+    protected void loadSharedArgs(Bundle sharedArgs) {
+        args = new Bundle();
+        argsBuilt = false;
+        SharedArgs.put(args, sharedArgs);
+    }
+
+    /**
+     * Set the args of each item for {@link #buildAll(int, ItemArgs)}.
+     */
+    public interface ItemArgs<T> {
+        /**
+         * Set the args of the item.
+         *
+         * @param builder The builder which has the shared args.
+         * @param index   The index of the item.
+         */
+        void setArgs(T builder, int index);
+    }
+
     /**
      * To subclass type.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import java.util.ArrayDeque;
+
+/**
+ * The small pool of builders per thread, for the builders used in high frequency such as list item click.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgBuilderPool<T extends ArgBuilder<T>> {
+
+    private static final int MAX_POOL_SIZE = 4;
+
+    private final ThreadLocal<ArrayDeque<T>> pool = new ThreadLocal<ArrayDeque<T>>() {
+        @Override
+        protected ArrayDeque<T> initialValue() {
+            return new ArrayDeque<>(MAX_POOL_SIZE);
+        }
+    };
+
+    /**
+     * Acquire a builder from the pool of current thread.
+     *
+     * @return The builder, null if the pool is empty.
+     */
+    public T acquire() {
+        return pool.get().pollLast();
+    }
+
+    /**
+     * Release the reset builder to the pool of current thread, it's ignored when the pool is full
+     * or the builder has been released.
+     *
+     * @param builder
+     */
+    public void release(T builder) {
+        ArrayDeque<T> builders = pool.get();
+        if (builders.size() >= MAX_POOL_SIZE) {
+            return;
+        }
+        for (T pooled : builders) {
+            if (pooled == builder) {
+                return;
+            }
+        }
+        builders.addLast(builder);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compressor for the arg with {@code BindArg.compress()}. The deflated arg is put as byte[] and the
+ * original length is put with the marker key, which is absent if the arg isn't deflated. The Deflater,
+ * Inflater and buffers are reused per thread, so only the deflated bytes put to the args are allocated.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgCompressor {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String DEFLATED_KEY_SUFFIX = CommonConstants.SEPARATOR + "deflated";
+    /**
+     * The larger buffer won't be kept by the thread.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.BEST_SPEED);
+        }
+    };
+    private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+    };
+    /**
+     * The UTF-8 bytes of the String to deflate.
+     */
+    private static final ThreadLocal<byte[]> ENCODE_BUFFER = new ThreadLocal<>();
+    /**
+     * The output of the Deflater and the Inflater.
+     */
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<>();
+
+    private ArgCompressor() {
+    }
+
+    /**
+     * Put the String, deflate it when its size in parcel is larger than threshold.
+     */
+    public static void putString(Bundle args, String key, String value, int threshold) {
+        // the String is written as UTF-16 in parcel
+        if (value != null && value.length() * 2 > threshold) {
+            int length = getUtf8Length(value);
+            byte[] bytes = obtainBuffer(ENCODE_BUFFER, length);
+            encodeUtf8(value, bytes);
+            if (putDeflated(args, key, bytes, length)) {
+                return;
+            }
+        }
+        removeDeflatedMarker(args, key);
+        args.putString(key, value);
+    }
+
+    /**
+     * Put the byte[], deflate it when its length is larger than threshold.
+     */
+    public static void putByteArray(Bundle args, String key, byte[] value, int threshold) {
+        if (value != null && value.length > threshold && putDeflated(args, key, value, value.length)) {
+            return;
+        }
+        removeDeflatedMarker(args, key);
+        args.putByteArray(key, value);
+    }
+
+    /**
+     * Get the String, inflate it if it's deflated.
+     */
+    public static String getString(Bundle args, String key) {
+        Object value = args.get(key);
+        if (value instanceof byte[]) {
+            int length = getDeflatedLength(args, key);
+            if (length < 0) {
+                return null;
+            }
+            byte[] buffer = obtainBuffer(BUFFER, length + 1);
+            return inflate((byte[]) value, buffer, length) ? new String(buffer, 0, length, UTF_8) : null;
+        }
+        return value instanceof String ? (String) value : null;
+    }
+
+    /**
+     * Get the byte[], inflate it if it's deflated.
+     */
+    public static byte[] getByteArray(Bundle args, String key) {
+        Object value = args.get(key);
+        if (!(value instanceof byte[])) {
+            return null;
+        }
+        byte[] bytes = (byte[]) value;
+        int length = getDeflatedLength(args, key);
+        if (length < 0) {
+            return bytes;
+        }
+        byte[] buffer = obtainBuffer(BUFFER, length + 1);
+        // a stale marker merged from other extras isn't followed by a valid deflated stream
+        return inflate(bytes, buffer, length) ? Arrays.copyOf(buffer, length) : bytes;
+    }
+
+    /**
+     * Put the deflated bytes if it's smaller than the original.
+     */
+    private static boolean putDeflated(Bundle args, String key, byte[] bytes, int length) {
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(bytes, 0, length);
+        deflater.finish();
+        // the deflated bytes larger than the original is useless
+        byte[] buffer = obtainBuffer(BUFFER, length);
+        int deflatedLength = 0;
+        while (!deflater.finished() && deflatedLength < length) {
+            deflatedLength += deflater.deflate(buffer, deflatedLength, length - deflatedLength);
+        }
+        if (!deflater.finished()) {
+            return false;
+        }
+        args.putByteArray(key, Arrays.copyOf(buffer, deflatedLength));
+        args.putInt(key + DEFLATED_KEY_SUFFIX, length);
+        return true;
+    }
+
+    /**
+     * Get the original length of the deflated arg, -1 if it isn't deflated. The marker of the previous
+     * versions is null if it isn't deflated.
+     */
+    private static int getDeflatedLength(Bundle args, String key) {
+        Object length = args.get(key + DEFLATED_KEY_SUFFIX);
+        return length instanceof Integer ? (Integer) length : -1;
+    }
+
+    /**
+     * Inflate the bytes to the buffer, the buffer is larger than the length to check the end of the
+     * stream. Return false if it isn't a complete deflated stream of the length.
+     */
+    private static boolean inflate(byte[] bytes, byte[] buffer, int length) {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(bytes);
+        int limit = length + 1;
+        int offset = 0;
+        try {
+            while (!inflater.finished() && offset < limit) {
+                int count = inflater.inflate(buffer, offset, limit - offset);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return false;
+                }
+                offset += count;
+            }
+        } catch (DataFormatException e) {
+            return false;
+        }
+        return inflater.finished() && offset == length;
+    }
+
+    /**
+     * Remove the marker of the arg deflated before, a new builder has no marker to remove.
+     */
+    private static void removeDeflatedMarker(Bundle args, String key) {
+        if (args.get(key) instanceof byte[]) {
+            args.remove(key + DEFLATED_KEY_SUFFIX);
+        }
+    }
+
+    /**
+     * Get the length of the String encoded by {@link #encodeUtf8(String, byte[])}.
+     */
+    private static int getUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encode the String as String.getBytes(UTF_8) to the bytes without allocation, the unpaired surrogate
+     * is replaced by '?'.
+     */
+    private static void encodeUtf8(String value, byte[] bytes) {
+        int length = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xc0 | c >> 6);
+                bytes[length++] = (byte) (0x80 | c & 0x3f);
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                bytes[length++] = (byte) (0xe0 | c >> 12);
+                bytes[length++] = (byte) (0x80 | c >> 6 & 0x3f);
+                bytes[length++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[length++] = (byte) (0xf0 | codePoint >> 18);
+                bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                bytes[length++] = (byte) (0x80 | codePoint & 0x3f);
+            } else {
+                bytes[length++] = '?';
+            }
+        }
+    }
+
+    private static byte[] obtainBuffer(ThreadLocal<byte[]> pool, int size) {
+        if (size > MAX_POOLED_BUFFER_SIZE) {
+            return new byte[size];
+        }
+        byte[] buffer = pool.get();
+        if (buffer == null || buffer.length < size) {
+            buffer = new byte[size];
+            pool.set(buffer);
+        }
+        return buffer;
+    }
+}
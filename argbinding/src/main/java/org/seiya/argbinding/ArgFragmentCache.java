@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The LRU cache of fragments keyed by the target class and the content of args, used by the generated
+ * {@code buildCached()}. A cached fragment is handed out once, it's reused only after it has been bound by
+ * {@link ArgBinding} (so it has been attached) and then removed from its FragmentManager.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgFragmentCache implements ComponentCallbacks2 {
+
+    private static final int DEFAULT_MAX_SIZE = 8;
+    private static ArgFragmentCache instance;
+
+    private final LinkedHashMap<Key, Entry> fragments = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private boolean registered;
+
+    private ArgFragmentCache() {
+    }
+
+    @UiThread
+    public static ArgFragmentCache get() {
+        if (instance == null) {
+            instance = new ArgFragmentCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Register to the application to evict the fragments when the memory is low.
+     */
+    @UiThread
+    public void register(@NonNull Context context) {
+        if (!registered) {
+            registered = true;
+            context.getApplicationContext().registerComponentCallbacks(this);
+        }
+    }
+
+    /**
+     * Set the max count of the cached fragments.
+     */
+    @UiThread
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Get the reusable fragment with the same args.
+     *
+     * @return The fragment, null if there is no reusable fragment.
+     */
+    @Nullable
+    @UiThread
+    public <F> F get(@NonNull Class<F> targetClass, @NonNull Bundle args) {
+        Entry entry = fragments.get(new Key(targetClass, args));
+        if (entry != null && !entry.inUse && isReusable(entry.fragment)) {
+            // it may not be added before the next get
+            entry.inUse = true;
+            return targetClass.cast(entry.fragment);
+        }
+        return null;
+    }
+
+    /**
+     * Put the fragment which is in use, the args are copied so the key won't be changed by the fragment.
+     */
+    @UiThread
+    public void put(@NonNull Object fragment, @NonNull Bundle args) {
+        if (maxSize <= 0) {
+            return;
+        }
+        fragments.put(new Key(fragment.getClass(), new Bundle(args)), new Entry(fragment));
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Called when the fragment is bound, it has been attached, so it can be reused after it's removed.
+     */
+    @UiThread
+    static void onBound(@NonNull Object fragment) {
+        ArgFragmentCache cache = instance;
+        if (cache == null || cache.fragments.isEmpty()) {
+            return;
+        }
+        for (Entry entry : cache.fragments.values()) {
+            if (entry.fragment == fragment) {
+                entry.inUse = false;
+                return;
+            }
+        }
+    }
+
+    @UiThread
+    public void clear() {
+        fragments.clear();
+    }
+
+    private void trimToSize(int size) {
+        Iterator<Map.Entry<Key, Entry>> iterator = fragments.entrySet().iterator();
+        while (fragments.size() > size && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Whether the fragment is not managed by any FragmentManager.
+     */
+    private static boolean isReusable(Object fragment) {
+        if (fragment instanceof android.app.Fragment) {
+            android.app.Fragment appFragment = (android.app.Fragment) fragment;
+            return !appFragment.isAdded() && appFragment.getFragmentManager() == null;
+        }
+        if (fragment instanceof android.support.v4.app.Fragment) {
+            android.support.v4.app.Fragment v4Fragment = (android.support.v4.app.Fragment) fragment;
+            return !v4Fragment.isAdded() && v4Fragment.getFragmentManager() == null;
+        }
+        return false;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_MODERATE) {
+            clear();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            trimToSize(fragments.size() / 2);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+
+    /**
+     * The cached fragment, it's in use from it's handed out until it's bound.
+     */
+    private static final class Entry {
+        private final Object fragment;
+        private boolean inUse = true;
+
+        Entry(Object fragment) {
+            this.fragment = fragment;
+        }
+    }
+
+    /**
+     * The key of the content of args, the hash is computed once.
+     */
+    private static final class Key {
+        private final Class<?> targetClass;
+        private final Bundle args;
+        private final int hash;
+
+        Key(Class<?> targetClass, Bundle args) {
+            this.targetClass = targetClass;
+            this.args = args;
+            this.hash = 31 * targetClass.hashCode() + hashBundle(args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && targetClass == other.targetClass && equalsBundle(args, other.args);
+        }
+
+        private static int hashBundle(Bundle bundle) {
+            int hash = 0;
+            for (String key : bundle.keySet()) {
+                // the order of keys is not stable
+                hash += key.hashCode() ^ hashValue(bundle.get(key));
+            }
+            return hash;
+        }
+
+        private static boolean equalsBundle(Bundle bundle, Bundle other) {
+            if (bundle.size() != other.size()) {
+                return false;
+            }
+            for (String key : bundle.keySet()) {
+                if (!other.containsKey(key) || !equalsValue(bundle.get(key), other.get(key))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int hashValue(Object value) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof Bundle) {
+                return hashBundle((Bundle) value);
+            }
+            if (value instanceof Object[]) {
+                return Arrays.deepHashCode((Object[]) value);
+            }
+            if (value instanceof int[]) {
+                return Arrays.hashCode((int[]) value);
+            }
+            if (value instanceof long[]) {
+                return Arrays.hashCode((long[]) value);
+            }
+            if (value instanceof byte[]) {
+                return Arrays.hashCode((byte[]) value);
+            }
+            if (value instanceof double[]) {
+                return Arrays.hashCode((double[]) value);
+            }
+            if (value instanceof float[]) {
+                return Arrays.hashCode((float[]) value);
+            }
+            if (value instanceof boolean[]) {
+                return Arrays.hashCode((boolean[]) value);
+            }
+            if (value instanceof short[]) {
+                return Arrays.hashCode((short[]) value);
+            }
+            if (value instanceof char[]) {
+                return Arrays.hashCode((char[]) value);
+            }
+            return value.hashCode();
+        }
+
+        private static boolean equalsValue(Object value, Object other) {
+            if (value == other) {
+                return true;
+            }
+            if (value == null || other == null || value.getClass() != other.getClass()) {
+                return false;
+            }
+            if (value instanceof Bundle) {
+                return equalsBundle((Bundle) value, (Bundle) other);
+            }
+            if (value instanceof Object[]) {
+                return Arrays.deepEquals((Object[]) value, (Object[]) other);
+            }
+            if (value instanceof int[]) {
+                return Arrays.equals((int[]) value, (int[]) other);
+            }
+            if (value instanceof long[]) {
+                return Arrays.equals((long[]) value, (long[]) other);
+            }
+            if (value instanceof byte[]) {
+                return Arrays.equals((byte[]) value, (byte[]) other);
+            }
+            if (value instanceof double[]) {
+                return Arrays.equals((double[]) value, (double[]) other);
+            }
+            if (value instanceof float[]) {
+                return Arrays.equals((float[]) value, (float[]) other);
+            }
+            if (value instanceof boolean[]) {
+                return Arrays.equals((boolean[]) value, (boolean[]) other);
+            }
+            if (value instanceof short[]) {
+                return Arrays.equals((short[]) value, (short[]) other);
+            }
+            if (value instanceof char[]) {
+                return Arrays.equals((char[]) value, (char[]) other);
+            }
+            return value.equals(other);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Parcel;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * The handle of an asynchronous launch. The extras of the intent are marshalled on the executor, so the
+ * Serializable and Parcelable args are not written on the main thread, then the intent is started on the
+ * main thread. The launches are started in the order they are created.
+ * <p>
+ * The intent is owned by the launch, the builders pass a copy of their intent. The args with an adapter or
+ * compression are still encoded by the setters on the calling thread.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgLaunch {
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+    /**
+     * The launches which are not started, in the order they are created. It's also the lock of the states.
+     */
+    private static final ArrayDeque<ArgLaunch> PENDING_LAUNCHES = new ArrayDeque<>();
+    private static final Runnable DISPATCH = new Runnable() {
+        @Override
+        public void run() {
+            dispatch();
+        }
+    };
+
+    private final Intent intent;
+    private final Starter starter;
+    private boolean prepared;
+    private boolean cancelled;
+    private boolean started;
+    private RuntimeException error;
+
+    private ArgLaunch(Intent intent, Starter starter) {
+        this.intent = intent;
+        this.starter = starter;
+    }
+
+    /**
+     * Marshal the extras of the intent on the executor, then start it on the main thread.
+     */
+    static ArgLaunch enqueue(Intent intent, Starter starter, Executor executor) {
+        final ArgLaunch launch = new ArgLaunch(intent, starter);
+        synchronized (PENDING_LAUNCHES) {
+            PENDING_LAUNCHES.addLast(launch);
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    launch.prepare();
+                }
+            });
+        } catch (RuntimeException e) {
+            // e.g. RejectedExecutionException, the launch will never be prepared, don't block the following
+            synchronized (PENDING_LAUNCHES) {
+                PENDING_LAUNCHES.remove(launch);
+                launch.cancelled = true;
+            }
+            MAIN_HANDLER.post(DISPATCH);
+            throw e;
+        }
+        return launch;
+    }
+
+    /**
+     * Cancel the launch.
+     *
+     * @return false if the launch has been started.
+     */
+    public boolean cancel() {
+        synchronized (PENDING_LAUNCHES) {
+            if (started) {
+                return false;
+            }
+            cancelled = true;
+        }
+        // the following launches may wait for it
+        MAIN_HANDLER.post(DISPATCH);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        synchronized (PENDING_LAUNCHES) {
+            return cancelled;
+        }
+    }
+
+    private void prepare() {
+        RuntimeException error = null;
+        if (!isCancelled()) {
+            try {
+                marshalExtras(intent);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+        synchronized (PENDING_LAUNCHES) {
+            this.error = error;
+            prepared = true;
+        }
+        MAIN_HANDLER.post(DISPATCH);
+    }
+
+    /**
+     * Replace the extras with the marshalled one, it stays marshalled when the intent is written to
+     * parcel, so only the bytes are copied on the main thread.
+     */
+    private static void marshalExtras(Intent intent) {
+        Bundle extras = intent.getExtras();
+        if (extras == null || extras.isEmpty()) {
+            return;
+        }
+        Parcel parcel = Parcel.obtain();
+        try {
+            extras.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            Bundle marshalledExtras = new Bundle();
+            marshalledExtras.readFromParcel(parcel);
+            intent.replaceExtras(marshalledExtras);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Start the prepared launches in order on the main thread.
+     */
+    private static void dispatch() {
+        while (true) {
+            ArgLaunch launch;
+            synchronized (PENDING_LAUNCHES) {
+                launch = PENDING_LAUNCHES.peekFirst();
+                if (launch == null || !(launch.prepared || launch.cancelled)) {
+                    return;
+                }
+                PENDING_LAUNCHES.pollFirst();
+                if (launch.cancelled) {
+                    continue;
+                }
+                launch.started = true;
+            }
+            try {
+                if (launch.error != null) {
+                    throw launch.error;
+                }
+                launch.starter.start(launch.intent);
+            } catch (RuntimeException e) {
+                // continue the following launches, then throw it like the synchronous start
+                MAIN_HANDLER.post(DISPATCH);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Start the intent on the main thread.
+     */
+    interface Starter {
+        void start(Intent intent);
+    }
+}
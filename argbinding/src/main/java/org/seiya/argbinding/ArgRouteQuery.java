@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * The query of a uri used by the generated route table, the query is scanned without being split,
+ * and only the value of the needed parameter is decoded.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgRouteQuery {
+
+    @Nullable
+    private final String encodedQuery;
+
+    public ArgRouteQuery(@Nullable String encodedQuery) {
+        this.encodedQuery = encodedQuery;
+    }
+
+    /**
+     * Get the decoded value of the first parameter with the name.
+     *
+     * @return The value, null if absent.
+     */
+    @Nullable
+    public String get(@NonNull String name) {
+        if (encodedQuery == null) {
+            return null;
+        }
+        int length = encodedQuery.length();
+        int start = 0;
+        while (start <= length) {
+            int end = encodedQuery.indexOf('&', start);
+            if (end == -1) {
+                end = length;
+            }
+            int separator = encodedQuery.indexOf('=', start);
+            if (separator == -1 || separator > end) {
+                separator = end;
+            }
+            if (separator - start == name.length() && encodedQuery.regionMatches(start, name, 0, name.length())) {
+                if (separator == end) {
+                    return "";
+                }
+                // same as Uri.getQueryParameter, '+' means space
+                return Uri.decode(encodedQuery.substring(separator + 1, end).replace('+', ' '));
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Parse the char value.
+     *
+     * @throws IllegalArgumentException The value is not a single char.
+     */
+    public static char parseChar(@NonNull String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Not a char: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * Parse the boolean value, unlike Boolean.parseBoolean the value other than true and false is invalid.
+     *
+     * @throws IllegalArgumentException The value is not true or false.
+     */
+    public static boolean parseBoolean(@NonNull String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Not a boolean: " + value);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.content.Context;
+import android.content.Intent;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * The route table generated from {@link org.seiya.argbinding.annotation.BindTarget#path()} of a module.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public interface ArgRouteTable {
+
+    /**
+     * Resolve the uri to the intent of the target activity.
+     *
+     * @return The intent, null if no path matches.
+     */
+    @Nullable
+    Intent resolve(@NonNull Context context, @NonNull Uri uri);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.Intent;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The deep link router, dispatches the uri to the activity with the same
+ * {@link org.seiya.argbinding.annotation.BindTarget#path()}. Each module generates a route table named
+ * {@code org.seiya.argbinding.ArgRoutes$$ModuleName}, the module name is set by the annotation processor
+ * option {@code argBindingModule} and the default is {@code App}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgRouter {
+
+    private static ArgRouter instance;
+
+    private final List<ArgRouteTable> tables = new ArrayList<>();
+
+    private ArgRouter() {
+    }
+
+    public static ArgRouter get() {
+        if (instance == null) {
+            synchronized (ArgRouter.class) {
+                if (instance == null) {
+                    instance = new ArgRouter();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add the generated route table, such as {@code new ArgRoutes$$App()}.
+     */
+    @UiThread
+    public ArgRouter addTable(@NonNull ArgRouteTable table) {
+        tables.add(table);
+        return this;
+    }
+
+    /**
+     * Resolve the uri to the intent of the target activity, the scheme and host are not matched.
+     *
+     * @return The intent, null if no path matches, a query parameter is invalid or a required one is missing.
+     */
+    @Nullable
+    @UiThread
+    public Intent resolve(@NonNull Context context, @NonNull Uri uri) {
+        for (int i = 0, size = tables.size(); i < size; i++) {
+            Intent intent = tables.get(i).resolve(context, uri);
+            if (intent != null) {
+                return intent;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Start the target activity of the uri.
+     *
+     * @return Whether the uri is resolved.
+     */
+    @UiThread
+    public boolean route(@NonNull Context context, @NonNull Uri uri) {
+        Intent intent = resolve(context, uri);
+        if (intent == null) {
+            return false;
+        }
+        if (!(context instanceof Activity)) {
+            intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+        }
+        context.startActivity(intent);
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+/**
+ * The immutable args template created by {@link ArgBuilder#snapshot()}, the builders created from it
+ * get all the args by one bulk copy instead of putting them one by one.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class ArgTemplate<T extends ArgBuilder<T>> {
+    /**
+     * The args is never modified and never returned.
+     */
+    final Bundle args;
+
+    ArgTemplate(Bundle args) {
+        this.args = args;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * The backend of the trace sections around binder lookup, required arg check, field binding and
+ * intent build, set it by {@link ArgBinding#setTracer(ArgTracer)}. The section names are computed
+ * once per binder or builder class.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public interface ArgTracer {
+
+    /**
+     * Write the sections to systrace and Perfetto by {@link Trace}, they are ignored below API 18.
+     */
+    ArgTracer SYSTRACE = new ArgTracer() {
+        @Override
+        public void beginSection(String sectionName) {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+                Trace.beginSection(sectionName);
+            }
+        }
+
+        @Override
+        public void endSection() {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+                Trace.endSection();
+            }
+        }
+    };
+
+    /**
+     * Begin a section, it's always ended by {@link #endSection()} on the same thread, even if an
+     * exception is thrown.
+     *
+     * @param sectionName
+     */
+    void beginSection(String sectionName);
+
+    void endSection();
+}
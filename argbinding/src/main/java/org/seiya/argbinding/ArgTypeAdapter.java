@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+/**
+ * The type adapter which maps a custom type to bundle native types, mark the implementation with
+ * {@link org.seiya.argbinding.annotation.ArgAdapter}.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public interface ArgTypeAdapter<T> {
+
+    /**
+     * Put the value to args.
+     *
+     * @param args
+     * @param key
+     * @param value The value, may be null.
+     */
+    void put(Bundle args, String key, T value);
+
+    /**
+     * Get the value from args, only be called when the args contains the key.
+     *
+     * @param args
+     * @param key
+     * @return The value, null if the value is null or can't be converted.
+     */
+    T get(Bundle args, String key);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+import java.util.Date;
+
+/**
+ * The built-in adapter for {@link Date}, put it as one long.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class DateTypeAdapter implements ArgTypeAdapter<Date> {
+
+    @Override
+    public void put(Bundle args, String key, Date value) {
+        if (value == null) {
+            args.putString(key, null);
+        } else {
+            args.putLong(key, value.getTime());
+        }
+    }
+
+    @Override
+    public Date get(Bundle args, String key) {
+        Object value = args.get(key);
+        return value instanceof Long ? new Date((Long) value) : null;
+    }
+}
@@ -18,6 +18,7 @@ package org.seiya.argbinding;
 
 import android.content.Context;
 import android.content.Intent;
+import android.os.Bundle;
 import android.support.annotation.NonNull;
 
 /**
@@ -29,6 +30,14 @@ import android.support.annotation.NonNull;
 abstract class IntentArgBuilder<T extends IntentArgBuilder<T>> extends ArgBuilder<T> {
     Context context;
     private int intentFlags;
+    /**
+     * The args are put to the intent directly, so there is no copy when build.
+     */
+    private Intent intent = new Intent();
+    /**
+     * Whether the intent has been returned by {@link #build()}.
+     */
+    private boolean intentBuilt;
 
     /**
      * Get Target class.
@@ -37,18 +46,123 @@ abstract class IntentArgBuilder<T extends IntentArgBuilder<T>> extends ArgBuilde
      */
     protected abstract Class<? extends Context> getTargetClass();
 
+    /**
+     * Get the intent to put args, the built intent will be copied before modifying, so the
+     * intent returned by {@link #build()} won't be changed by the builder.
+     *
+     * @return
+     */
+    protected final Intent intent() {
+        if (intentBuilt) {
+            intent = new Intent(intent);
+            intentBuilt = false;
+        }
+        return intent;
+    }
+
     /**
      * Build the intent.
      */
     @Override
     public Intent build() {
-        Intent intent = new Intent();
-        intent.putExtras(args);
-        intent.setFlags(intentFlags);
-        if (context != null) {
-            intent.setClass(context, getTargetClass());
+        ArgTracer tracer = ArgTrace.tracer;
+        if (tracer != null) {
+            tracer.beginSection(getTraceSectionName());
         }
-        return intent;
+        try {
+            Intent intent = intent();
+            if (!args.isEmpty()) {
+                // the args put by adapter or compressor
+                intent.putExtras(args);
+            }
+            intent.setFlags(intentFlags);
+            if (context != null) {
+                intent.setClass(context, getTargetClass());
+            }
+            intentBuilt = true;
+            return intent;
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+    }
+
+    /**
+     * Get the name of the trace section around {@link #build()}, the generated builders return a constant.
+     *
+     * @return
+     */
+    protected String getTraceSectionName() {
+        return "ArgBuilder.build:" + getTargetClass().getSimpleName();
+    }
+
+    /**
+     * Reset the builder to reuse it, the intent returned by build won't be changed.
+     *
+     * @return
+     */
+    @Override
+    public T reset() {
+        if (intentBuilt) {
+            intent = new Intent();
+            intentBuilt = false;
+        } else {
+            intent.replaceExtras((Bundle) null);
+        }
+        context = null;
+        intentFlags = 0;
+        return super.reset();
+    }
+
+    /**
+     * Return a copy of the build args, modifying it won't change the builder.
+     *
+     * @return The build args.
+     */
+    @Override
+    public Bundle buildArg() {
+        return copyArgs();
+    }
+
+    @Override
+    public T applyTemplate(ArgTemplate<T> template) {
+        if (!args.isEmpty()) {
+            // the args will be put to intent when build, remove the overridden
+            for (String key : template.args.keySet()) {
+                args.remove(key);
+            }
+        }
+        intent().putExtras(template.args);
+        return self();
+    }
+
+    @Override
+    protected void loadTemplate(ArgTemplate<T> template) {
+        intent = new Intent();
+        intentBuilt = false;
+        intent.replaceExtras(template.args);
+        args.clear();
+    }
+
+    @Override
+    protected void loadSharedArgs(Bundle sharedArgs) {
+        intent = new Intent();
+        intentBuilt = false;
+        Bundle extras = new Bundle();
+        SharedArgs.put(extras, sharedArgs);
+        intent.replaceExtras(extras);
+        args.clear();
+    }
+
+    @Override
+    protected Bundle copyArgs() {
+        Bundle extras = intent.getExtras();
+        if (extras == null) {
+            return new Bundle(args);
+        }
+        extras.putAll(args);
+        return extras;
     }
 
     /**
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+/**
+ * The Kotlin property delegate of one arg created by the generated {@code XxxLazyArgs}, e.g.
+ * {@code val name: String by args.name()}. The arg is decoded on first access and cached, so there is
+ * no {@code bind()} call and only the args which are read are decoded.
+ * <p>
+ * It isn't synchronized, read it on the UI thread, or decode it there first.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public abstract class LazyArg<T> {
+    private static final Object UNINITIALIZED = new Object();
+
+    @Nullable
+    private final Bundle args;
+    private Object value = UNINITIALIZED;
+
+    /**
+     * @param args The args, null to read the args of the target which the property belongs to, the
+     *             intent extras of activity or the arguments of fragment.
+     */
+    protected LazyArg(@Nullable Bundle args) {
+        this.args = args;
+    }
+
+    /**
+     * The getter of the delegated property, {@code property} is {@code KProperty}, there is no dependency
+     * on the kotlin stdlib.
+     */
+    @SuppressWarnings("unchecked")
+    @UiThread
+    public final T getValue(Object thisRef, Object property) {
+        if (value == UNINITIALIZED) {
+            Bundle args = this.args != null ? this.args : getArgs(thisRef);
+            value = decode(args != null ? SharedArgs.expand(args) : Bundle.EMPTY);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Decode the arg in the same way as the binder.
+     */
+    protected abstract T decode(@NonNull Bundle args);
+
+    @Nullable
+    private static Bundle getArgs(Object target) {
+        if (target instanceof Activity) {
+            return ((Activity) target).getIntent().getExtras();
+        }
+        if (target instanceof android.app.Fragment) {
+            return ((android.app.Fragment) target).getArguments();
+        }
+        if (target instanceof android.support.v4.app.Fragment) {
+            return ((android.support.v4.app.Fragment) target).getArguments();
+        }
+        throw new IllegalStateException("The args of " + target.getClass().getName()
+                + " are unknown, create the lazy args with the bundle.");
+    }
+}
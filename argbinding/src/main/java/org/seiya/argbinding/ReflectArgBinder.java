@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+import android.util.Log;
+
+import org.seiya.argbinding.annotation.ReflectArg;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The binder of the target without generated code, e.g. a class of a dynamic feature module compiled
+ * without the annotation processor, it's used only when {@link ArgBinding#setReflectFallback(boolean)}
+ * is enabled.
+ * <p>
+ * The {@link ReflectArg} fields are read once when the binder is created, their keys and types make the
+ * same table as the table mode, and the args are bound by {@link TableArgBinder} through the cached
+ * {@link Field}s, so binding doesn't look up the fields or annotations again. The fields of the super
+ * class which has a generated binder are bound by that binder, only the classes below it are reflected.
+ * <p>
+ * The args are read in the natural bundle types of the fields, the adapters, enums by name, compression
+ * and packing of the generated builders are not supported, the fields whose types need them are logged
+ * in debug mode.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+final class ReflectArgBinder extends TableArgBinder<Object> {
+
+    private static final String TAG = "ArgBinding";
+    private static final Map<Class<?>, Integer> BUNDLE_TYPES = new HashMap<>();
+    /**
+     * The types of the built-in adapters of the annotation processor.
+     */
+    private static final Set<Class<?>> ADAPTED_TYPES = new HashSet<Class<?>>(Arrays.asList(
+            Date.class, UUID.class, BigDecimal.class));
+    /**
+     * The collection types which are packed to primitive arrays by the annotation processor.
+     */
+    private static final Set<Class<?>> PACKED_TYPES = new HashSet<Class<?>>(Arrays.asList(
+            Collection.class, List.class, ArrayList.class, Set.class, HashSet.class, LinkedHashSet.class));
+
+    static {
+        BUNDLE_TYPES.put(boolean.class, TYPE_BOOLEAN);
+        BUNDLE_TYPES.put(byte.class, TYPE_BYTE);
+        BUNDLE_TYPES.put(char.class, TYPE_CHAR);
+        BUNDLE_TYPES.put(short.class, TYPE_SHORT);
+        BUNDLE_TYPES.put(int.class, TYPE_INT);
+        BUNDLE_TYPES.put(long.class, TYPE_LONG);
+        BUNDLE_TYPES.put(float.class, TYPE_FLOAT);
+        BUNDLE_TYPES.put(double.class, TYPE_DOUBLE);
+        BUNDLE_TYPES.put(Boolean.class, TYPE_BOOLEAN | BOXED);
+        BUNDLE_TYPES.put(Byte.class, TYPE_BYTE | BOXED);
+        BUNDLE_TYPES.put(Character.class, TYPE_CHAR | BOXED);
+        BUNDLE_TYPES.put(Short.class, TYPE_SHORT | BOXED);
+        BUNDLE_TYPES.put(Integer.class, TYPE_INT | BOXED);
+        BUNDLE_TYPES.put(Long.class, TYPE_LONG | BOXED);
+        BUNDLE_TYPES.put(Float.class, TYPE_FLOAT | BOXED);
+        BUNDLE_TYPES.put(Double.class, TYPE_DOUBLE | BOXED);
+        BUNDLE_TYPES.put(String.class, TYPE_STRING);
+        BUNDLE_TYPES.put(boolean[].class, TYPE_BOOLEAN_ARRAY);
+        BUNDLE_TYPES.put(byte[].class, TYPE_BYTE_ARRAY);
+        BUNDLE_TYPES.put(char[].class, TYPE_CHAR_ARRAY);
+        BUNDLE_TYPES.put(short[].class, TYPE_SHORT_ARRAY);
+        BUNDLE_TYPES.put(int[].class, TYPE_INT_ARRAY);
+        BUNDLE_TYPES.put(long[].class, TYPE_LONG_ARRAY);
+        BUNDLE_TYPES.put(float[].class, TYPE_FLOAT_ARRAY);
+        BUNDLE_TYPES.put(double[].class, TYPE_DOUBLE_ARRAY);
+    }
+
+    private final String targetClassName;
+    private final ArgBinder<Object> boundBinder;
+    private final Field[] fields;
+    private final int schemaHash;
+
+    private ReflectArgBinder(Class<?> targetClass, ArgBinder<Object> boundBinder, int boundFieldCount,
+                             String[] keys, int[] types, Field[] fields, int schemaHash) {
+        super(keys, types, boundFieldCount);
+        this.targetClassName = targetClass.getName();
+        this.boundBinder = boundBinder;
+        this.fields = fields;
+        this.schemaHash = schemaHash;
+    }
+
+    /**
+     * Create the binder of the {@link ReflectArg} fields of the class and its super classes.
+     *
+     * @param targetClass
+     * @param boundClass  The class which has the generated binder, may be null. The generated binder
+     *                    is preferred if the classes below it declare no {@link ReflectArg} field.
+     * @param boundBinder The generated binder of the bound class, it binds the fields of the bound class
+     *                    and its super classes, null if there is no bound class.
+     * @param debug       Whether to log the fields whose types need the encodings of the generated builders.
+     * @return The binder, or null if there is no field to bind.
+     */
+    @SuppressWarnings("unchecked")
+    static ReflectArgBinder create(Class<?> targetClass, Class<?> boundClass, ArgBinder<?> boundBinder,
+                                   boolean debug) {
+        if (boundClass != null && !hasBoundField(targetClass, boundClass)) {
+            return null;
+        }
+        List<Field> fields = new ArrayList<>();
+        List<Class<?>> classes = new ArrayList<>();
+        for (Class<?> cls = targetClass; cls != null && !CommonUtils.isFrameworkPackage(cls.getName());
+             cls = cls.getSuperclass()) {
+            classes.add(0, cls);
+        }
+        int boundClassIndex = boundClass != null ? classes.indexOf(boundClass) : -1;
+        // the super fields first, the same order as the generated table
+        for (Class<?> cls : classes.subList(boundClassIndex + 1, classes.size())) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (field.getAnnotation(ReflectArg.class) == null) {
+                    continue;
+                }
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || getType(field.getType()) < 0) {
+                    Log.w(TAG, "The field can't be bound by reflection: " + field);
+                    continue;
+                }
+                String encoding = getUnsupportedEncoding(field);
+                if (debug && encoding != null) {
+                    Log.d(TAG, "The field is read as it's put in the bundle, the " + encoding
+                            + " of the generated builders is not supported: " + field);
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        String[] keys = new String[fields.size()];
+        int[] types = new int[fields.size()];
+        int[] fieldIds = new int[fields.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Field field = fields.get(i);
+            ReflectArg config = field.getAnnotation(ReflectArg.class);
+            keys[i] = getKey(field, config);
+            types[i] = getType(field.getType());
+            if (config.required()) {
+                types[i] |= REQUIRED;
+            }
+            fieldIds[i] = getFieldId(field, config);
+        }
+        Arrays.sort(fieldIds);
+        int schemaHash = Arrays.hashCode(fieldIds);
+        // the fields of the generated binder are only known by its schema hash
+        int boundFieldCount = 0;
+        if (boundBinder != null) {
+            schemaHash = 31 * boundBinder.getSchemaHash() + schemaHash;
+            boundFieldCount = boundBinder.getFieldCount();
+        }
+        // the changed bits of the reflected fields follow the bits of the generated binder
+        return new ReflectArgBinder(targetClass, (ArgBinder<Object>) boundBinder, boundFieldCount, keys, types,
+                fields.toArray(new Field[0]), schemaHash == 0 ? 1 : schemaHash);
+    }
+
+    private static String getKey(Field field, ReflectArg config) {
+        return config.value().isEmpty() ? field.getName() : config.value();
+    }
+
+    /**
+     * Get the same field id as the annotation processor.
+     */
+    private static int getFieldId(Field field, ReflectArg config) {
+        return (getKey(field, config) + ":" + field.getType().getCanonicalName()).hashCode();
+    }
+
+    /**
+     * Whether the classes from the target class to the bound class (exclusive) declare {@link ReflectArg} field.
+     */
+    private static boolean hasBoundField(Class<?> targetClass, Class<?> boundClass) {
+        for (Class<?> cls = targetClass; cls != null && cls != boundClass; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (field.getAnnotation(ReflectArg.class) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the encoding which the generated builders use for the field type, e.g. the enums are put by
+     * name, the reflection reads the args as they are. The custom adapters aren't known at runtime.
+     *
+     * @return The encoding, or null if the generated builders put the arg as it is.
+     */
+    private static String getUnsupportedEncoding(Field field) {
+        Class<?> type = field.getType();
+        if (type.isEnum()) {
+            return "enum by name";
+        }
+        if (ADAPTED_TYPES.contains(type)) {
+            return "adapter";
+        }
+        if (PACKED_TYPES.contains(type)) {
+            Type genericType = field.getGenericType();
+            if (genericType instanceof ParameterizedType) {
+                Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (elementType instanceof Class && BUNDLE_TYPES.containsKey(elementType)
+                        && (BUNDLE_TYPES.get(elementType) & BOXED) != 0) {
+                    return "packing";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the table type of the field type, the same as the annotation processor.
+     *
+     * @return The type, or -1 if it can't be put in a bundle.
+     */
+    private static int getType(Class<?> type) {
+        Integer bundleType = BUNDLE_TYPES.get(type);
+        if (bundleType != null) {
+            return bundleType;
+        }
+        if (Parcelable.class.isAssignableFrom(type)) {
+            return TYPE_PARCELABLE;
+        }
+        // the typed Parcelable array is copied from Parcelable[] as the generated binder
+        if (Serializable.class.isAssignableFrom(type) || isParcelableArray(type)) {
+            return TYPE_SERIALIZABLE;
+        }
+        return -1;
+    }
+
+    private static boolean isParcelableArray(Class<?> type) {
+        return type.isArray() && Parcelable.class.isAssignableFrom(type.getComponentType());
+    }
+
+    @Override
+    protected void bindArgs(Object target, Bundle args) {
+        if (boundBinder != null) {
+            boundBinder.bindArgs(target, args);
+        }
+        super.bindArgs(target, args);
+    }
+
+    @Override
+    protected void restoreSavedArgs(Object target, Bundle savedArgs) {
+        if (boundBinder != null) {
+            boundBinder.restoreSavedArgs(target, savedArgs);
+        }
+        super.restoreSavedArgs(target, savedArgs);
+    }
+
+    @Override
+    protected long rebindArgs(Object target, Bundle args) {
+        long changed = boundBinder != null ? boundBinder.rebindArgs(target, args) : 0;
+        return changed | super.rebindArgs(target, args);
+    }
+
+    @Override
+    protected long diffArgs(Object target, Bundle args) {
+        long changed = boundBinder != null ? boundBinder.diffArgs(target, args) : 0;
+        return changed | super.diffArgs(target, args);
+    }
+
+    @Override
+    protected void saveArgs(Object target, long changed, Bundle args) {
+        if (boundBinder != null) {
+            boundBinder.saveArgs(target, changed, args);
+        }
+        super.saveArgs(target, changed, args);
+    }
+
+    @Override
+    protected void checkRequiredArg(Bundle args) {
+        if (boundBinder != null) {
+            boundBinder.checkRequiredArg(args);
+        }
+        super.checkRequiredArg(args);
+    }
+
+    @Override
+    protected Object getArg(Object target, int index) {
+        try {
+            return fields[index].get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void setArg(Object target, int index, Object value) {
+        Field field = fields[index];
+        Class<?> type = field.getType();
+        if (value instanceof Parcelable[] && !type.isInstance(value) && isParcelableArray(type)) {
+            value = toTypedArray(value, (Class<? extends Parcelable[]>) type);
+        }
+        try {
+            field.set(target, value);
+        } catch (IllegalArgumentException e) {
+            // the value is not the type of the field, the field keeps its value as the generated binder
+            throw new ClassCastException(e.getMessage());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    String getTargetClassName() {
+        return targetClassName;
+    }
+
+    @Override
+    protected int getSchemaHash() {
+        return schemaHash;
+    }
+}
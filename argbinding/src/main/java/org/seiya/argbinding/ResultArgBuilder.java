@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.support.annotation.NonNull;
+
+/**
+ * The base class of activity result builder.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public abstract class ResultArgBuilder<T extends ResultArgBuilder<T>> extends ArgBuilder<T> {
+
+    /**
+     * Build the result intent.
+     */
+    @Override
+    public Intent build() {
+        return new Intent().putExtras(buildArg());
+    }
+
+    /**
+     * Set the result of the activity.
+     */
+    public void setResult(@NonNull Activity activity, int resultCode) {
+        activity.setResult(resultCode, build());
+    }
+}
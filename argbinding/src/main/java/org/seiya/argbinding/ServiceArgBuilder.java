@@ -16,9 +16,12 @@
 
 package org.seiya.argbinding;
 
+import android.content.Context;
 import android.content.Intent;
 import android.content.ServiceConnection;
 
+import java.util.concurrent.Executor;
+
 /**
  * The base class of Service arg builder.
  *
@@ -45,4 +48,38 @@ public abstract class ServiceArgBuilder<T extends ServiceArgBuilder<T>> extends
         Intent intent = build();
         context.bindService(intent, connection, flags);
     }
+
+    /**
+     * Start Service asynchronously, the args are marshalled on the executor and the Service is started
+     * on the main thread, context can't be null.
+     *
+     * @return The handle to cancel the launch.
+     */
+    public ArgLaunch startAsync(Executor executor) {
+        checkContextNull();
+        final Context context = this.context;
+        return ArgLaunch.enqueue(new Intent(build()), new ArgLaunch.Starter() {
+            @Override
+            public void start(Intent intent) {
+                context.startService(intent);
+            }
+        }, executor);
+    }
+
+    /**
+     * Bind Service asynchronously, context can't be null.
+     *
+     * @return The handle to cancel the launch.
+     * @see #startAsync(Executor)
+     */
+    public ArgLaunch bindAsync(final ServiceConnection connection, final int flags, Executor executor) {
+        checkContextNull();
+        final Context context = this.context;
+        return ArgLaunch.enqueue(new Intent(build()), new ArgLaunch.Starter() {
+            @Override
+            public void start(Intent intent) {
+                context.bindService(intent, connection, flags);
+            }
+        }, executor);
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+/**
+ * The args shared by the items of {@link ArgBuilder#buildAll(int, ArgBuilder.ItemArgs)}. They are put in
+ * the args of each item as one immutable nested bundle, so building an item only puts its own args, and
+ * they are expanded into the args in place when the binder, the lazy args or {@code XxxArgs} read them
+ * the first time.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public final class SharedArgs {
+
+    private SharedArgs() {
+    }
+
+    /**
+     * Put the shared args to the args of an item.
+     */
+    static void put(Bundle args, Bundle sharedArgs) {
+        if (!sharedArgs.isEmpty()) {
+            args.putBundle(CommonConstants.SHARED_ARGS_KEY, sharedArgs);
+        }
+    }
+
+    /**
+     * Expand the shared args into the args, the args of the item override the shared ones. The args
+     * without shared args are returned as they are.
+     *
+     * @param args The args, may be null.
+     * @return The args.
+     */
+    @Nullable
+    public static Bundle expand(@Nullable Bundle args) {
+        if (args == null) {
+            return null;
+        }
+        Object sharedArgs = args.get(CommonConstants.SHARED_ARGS_KEY);
+        if (!(sharedArgs instanceof Bundle)) {
+            return args;
+        }
+        Bundle itemArgs = new Bundle(args);
+        itemArgs.remove(CommonConstants.SHARED_ARGS_KEY);
+        args.clear();
+        args.putAll((Bundle) sharedArgs);
+        args.putAll(itemArgs);
+        return args;
+    }
+}
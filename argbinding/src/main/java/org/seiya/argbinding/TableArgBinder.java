@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The base class of the binders generated in the table mode (annotation processor option
+ * {@code argBindingMode=table}). The generated binder only has the table of the keys and types and the
+ * accessors of the fields by index, the args are bound by this class, so there is much less code for
+ * each target than the default mode.
+ * <p>
+ * The table contains the fields of the super targets too, the generated accessors handle the fields
+ * declared in their target and delegate the others to the super binder.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public abstract class TableArgBinder<T> extends ArgBinder<T> {
+
+    public static final int TYPE_BOOLEAN = 0;
+    public static final int TYPE_BYTE = 1;
+    public static final int TYPE_CHAR = 2;
+    public static final int TYPE_SHORT = 3;
+    public static final int TYPE_INT = 4;
+    public static final int TYPE_LONG = 5;
+    public static final int TYPE_FLOAT = 6;
+    public static final int TYPE_DOUBLE = 7;
+    public static final int TYPE_STRING = 8;
+    public static final int TYPE_BOOLEAN_ARRAY = 9;
+    public static final int TYPE_BYTE_ARRAY = 10;
+    public static final int TYPE_CHAR_ARRAY = 11;
+    public static final int TYPE_SHORT_ARRAY = 12;
+    public static final int TYPE_INT_ARRAY = 13;
+    public static final int TYPE_LONG_ARRAY = 14;
+    public static final int TYPE_FLOAT_ARRAY = 15;
+    public static final int TYPE_DOUBLE_ARRAY = 16;
+    public static final int TYPE_PARCELABLE = 17;
+    public static final int TYPE_SERIALIZABLE = 18;
+    /**
+     * The flag of the boxed primitive type, the null value is put as a null String.
+     */
+    public static final int BOXED = 0x100;
+    /**
+     * The flag of the required field.
+     */
+    public static final int REQUIRED = 0x200;
+
+    private static final int TYPE_MASK = 0xff;
+
+    private final String[] keys;
+    private final int[] types;
+    private final int bitOffset;
+
+    /**
+     * @param keys  The keys of all the fields, include the super fields.
+     * @param types The type and flags of the fields.
+     */
+    protected TableArgBinder(String[] keys, int[] types) {
+        this(keys, types, 0);
+    }
+
+    /**
+     * @param keys      The keys of the fields.
+     * @param types     The type and flags of the fields.
+     * @param bitOffset The changed bit of the first field, the fields before it are bound by another binder.
+     */
+    TableArgBinder(String[] keys, int[] types, int bitOffset) {
+        this.keys = keys;
+        this.types = types;
+        this.bitOffset = bitOffset;
+    }
+
+    /**
+     * Get the value of the field, the primitive value is boxed.
+     *
+     * @param target
+     * @param index  The index of the field in the table.
+     * @return
+     */
+    protected Object getArg(T target, int index) {
+        throw new IllegalArgumentException("There is no field at " + index + " in " + getClass().getName());
+    }
+
+    /**
+     * Set the value of the field.
+     *
+     * @param target
+     * @param index  The index of the field in the table.
+     * @param value
+     * @throws ClassCastException  The value is not the type of the field.
+     * @throws ArrayStoreException The component type of the array value is not the field's.
+     */
+    protected void setArg(T target, int index, Object value) {
+        throw new IllegalArgumentException("There is no field at " + index + " in " + getClass().getName());
+    }
+
+    /**
+     * Copy the {@code Parcelable[]} to the typed array of the field.
+     */
+    protected static <A> A[] toTypedArray(Object value, Class<? extends A[]> arrayType) {
+        if (value == null) {
+            return null;
+        }
+        Parcelable[] values = (Parcelable[]) value;
+        return Arrays.copyOf(values, values.length, arrayType);
+    }
+
+    @Override
+    protected void bindArgs(T target, Bundle args) {
+        for (int i = 0; i < keys.length; i++) {
+            bindArg(target, i, args);
+        }
+    }
+
+    /**
+     * Bind the field in the same way as the default mode, the field keeps its value if the arg is
+     * absent or it's not the type of the field, e.g. it comes from an old schema.
+     *
+     * @return Whether the field is bound.
+     */
+    private boolean bindArg(T target, int index, Bundle args) {
+        Object value = args.get(keys[index]);
+        if (value == null && (isDefaultValueType(types[index]) || !args.containsKey(keys[index]))) {
+            return false;
+        }
+        try {
+            setArg(target, index, value);
+            return true;
+        } catch (ClassCastException e) {
+            return false;
+        } catch (ArrayStoreException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void restoreSavedArgs(T target, Bundle savedArgs) {
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            if (!isPrimitiveType(types[i]) && savedArgs.get(key) == null && savedArgs.containsKey(key)) {
+                // the field is saved as null
+                setArg(target, i, null);
+            } else {
+                bindArg(target, i, savedArgs);
+            }
+        }
+    }
+
+    @Override
+    protected long rebindArgs(T target, Bundle args) {
+        long changed = 0;
+        for (int i = 0; i < keys.length; i++) {
+            Object old = getArg(target, i);
+            if (bindArg(target, i, args) && !isEqual(old, getArg(target, i))) {
+                changed |= getChangedBit(i);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    protected long diffArgs(T target, Bundle args) {
+        long changed = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (!args.containsKey(keys[i])) {
+                changed |= getChangedBit(i);
+                continue;
+            }
+            Object bound = args.get(keys[i]);
+            if (bound == null && isDefaultValueType(types[i])) {
+                // the field keeps its value when binding
+                continue;
+            }
+            if (!isEqual(getArg(target, i), bound)) {
+                changed |= getChangedBit(i);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    protected void saveArgs(T target, long changed, Bundle args) {
+        for (int i = 0; i < keys.length; i++) {
+            if ((changed & getChangedBit(i)) != 0) {
+                putArg(args, keys[i], types[i], getArg(target, i));
+            }
+        }
+    }
+
+    @Override
+    protected void checkRequiredArg(Bundle args) {
+        List<String> emptyFields = null;
+        for (int i = 0; i < keys.length; i++) {
+            if ((types[i] & REQUIRED) == 0) {
+                continue;
+            }
+            if (args == null) {
+                throw new RuntimeException("args == null and has field is required in " + getTargetClassName());
+            }
+            if (args.get(keys[i]) == null) {
+                emptyFields = addEmptyField(emptyFields, keys[i]);
+            }
+        }
+        if (emptyFields != null) {
+            throw new RuntimeException("The field " + emptyFields + " is required in " + getTargetClassName());
+        }
+    }
+
+    @Override
+    protected int getFieldCount() {
+        return bitOffset + keys.length;
+    }
+
+    String getTargetClassName() {
+        String binderName = getClass().getName();
+        return binderName.substring(0, binderName.length() - CommonConstants.BINDER_NAME_SUFFIX.length());
+    }
+
+    /**
+     * The fields after the 63rd share the last bit, the same as the {@code CHANGED_} constants.
+     */
+    private long getChangedBit(int index) {
+        return 1L << Math.min(bitOffset + index, Long.SIZE - 1);
+    }
+
+    /**
+     * Whether the field is primitive, it can't be null.
+     */
+    private static boolean isPrimitiveType(int type) {
+        return (type & BOXED) == 0 && (type & TYPE_MASK) < TYPE_STRING;
+    }
+
+    /**
+     * Whether the field keeps its value when the arg is null, e.g. {@code Bundle.getInt(key, defaultValue)}.
+     */
+    private static boolean isDefaultValueType(int type) {
+        return (type & BOXED) == 0 && (type & TYPE_MASK) <= TYPE_STRING;
+    }
+
+    /**
+     * Compare the values in the same way as the default mode, the array is compared by content.
+     */
+    private static boolean isEqual(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof Object[] && b instanceof Object[]) {
+            return Arrays.equals((Object[]) a, (Object[]) b);
+        }
+        if (a instanceof boolean[] && b instanceof boolean[]) {
+            return Arrays.equals((boolean[]) a, (boolean[]) b);
+        }
+        if (a instanceof byte[] && b instanceof byte[]) {
+            return Arrays.equals((byte[]) a, (byte[]) b);
+        }
+        if (a instanceof char[] && b instanceof char[]) {
+            return Arrays.equals((char[]) a, (char[]) b);
+        }
+        if (a instanceof short[] && b instanceof short[]) {
+            return Arrays.equals((short[]) a, (short[]) b);
+        }
+        if (a instanceof int[] && b instanceof int[]) {
+            return Arrays.equals((int[]) a, (int[]) b);
+        }
+        if (a instanceof long[] && b instanceof long[]) {
+            return Arrays.equals((long[]) a, (long[]) b);
+        }
+        if (a instanceof float[] && b instanceof float[]) {
+            return Arrays.equals((float[]) a, (float[]) b);
+        }
+        if (a instanceof double[] && b instanceof double[]) {
+            return Arrays.equals((double[]) a, (double[]) b);
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * Put the value in the same way as the builder.
+     */
+    private static void putArg(Bundle args, String key, int type, Object value) {
+        if (value == null && (type & BOXED) != 0) {
+            // the null value is the absence marker
+            args.putString(key, null);
+            return;
+        }
+        switch (type & TYPE_MASK) {
+            case TYPE_BOOLEAN:
+                args.putBoolean(key, (Boolean) value);
+                break;
+            case TYPE_BYTE:
+                args.putByte(key, (Byte) value);
+                break;
+            case TYPE_CHAR:
+                args.putChar(key, (Character) value);
+                break;
+            case TYPE_SHORT:
+                args.putShort(key, (Short) value);
+                break;
+            case TYPE_INT:
+                args.putInt(key, (Integer) value);
+                break;
+            case TYPE_LONG:
+                args.putLong(key, (Long) value);
+                break;
+            case TYPE_FLOAT:
+                args.putFloat(key, (Float) value);
+                break;
+            case TYPE_DOUBLE:
+                args.putDouble(key, (Double) value);
+                break;
+            case TYPE_STRING:
+                args.putString(key, (String) value);
+                break;
+            case TYPE_BOOLEAN_ARRAY:
+                args.putBooleanArray(key, (boolean[]) value);
+                break;
+            case TYPE_BYTE_ARRAY:
+                args.putByteArray(key, (byte[]) value);
+                break;
+            case TYPE_CHAR_ARRAY:
+                args.putCharArray(key, (char[]) value);
+                break;
+            case TYPE_SHORT_ARRAY:
+                args.putShortArray(key, (short[]) value);
+                break;
+            case TYPE_INT_ARRAY:
+                args.putIntArray(key, (int[]) value);
+                break;
+            case TYPE_LONG_ARRAY:
+                args.putLongArray(key, (long[]) value);
+                break;
+            case TYPE_FLOAT_ARRAY:
+                args.putFloatArray(key, (float[]) value);
+                break;
+            case TYPE_DOUBLE_ARRAY:
+                args.putDoubleArray(key, (double[]) value);
+                break;
+            case TYPE_PARCELABLE:
+                args.putParcelable(key, (Parcelable) value);
+                break;
+            default:
+                args.putSerializable(key, (Serializable) value);
+                break;
+        }
+    }
+}
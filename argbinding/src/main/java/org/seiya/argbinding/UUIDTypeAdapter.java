@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2019 ZhengAn.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.seiya.argbinding;
+
+import android.os.Bundle;
+
+import java.util.UUID;
+
+/**
+ * The built-in adapter for {@link UUID}, put it as two longs.
+ *
+ * @author ZhengAn
+ * @date 2026/10/19
+ */
+public class UUIDTypeAdapter implements ArgTypeAdapter<UUID> {
+
+    @Override
+    public void put(Bundle args, String key, UUID value) {
+        if (value == null) {
+            args.putString(key, null);
+        } else {
+            args.putLongArray(key, new long[]{value.getMostSignificantBits(), value.getLeastSignificantBits()});
+        }
+    }
+
+    @Override
+    public UUID get(Bundle args, String key) {
+        Object value = args.get(key);
+        if (value instanceof long[] && ((long[]) value).length == 2) {
+            long[] bits = (long[]) value;
+            return new UUID(bits[0], bits[1]);
+        }
+        return null;
+    }
+}